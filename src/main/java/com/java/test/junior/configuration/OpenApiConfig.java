@@ -11,6 +11,6 @@ public class OpenApiConfig {
 
     @Bean
     public io.swagger.v3.oas.models.OpenAPI customOpenAPI() {
-        return new io.swagger.v3.oas.models.OpenAPI().info(new io.swagger.v3.oas.models.info.Info().title("Java Test Junior API").version("1.0").description("API documentation for the Junior Test project.")).addSecurityItem(new SecurityRequirement().addList("JavaTestJuniorScheme")).components(new Components().addSecuritySchemes("JavaTestJuniorScheme", new SecurityScheme().name("JavaTestScheme").type(SecurityScheme.Type.HTTP).scheme("basic")));
+        return new io.swagger.v3.oas.models.OpenAPI().info(new io.swagger.v3.oas.models.info.Info().title("Java Test Junior API").version("1.0").description("API documentation for the Junior Test project.")).addSecurityItem(new SecurityRequirement().addList("JavaTestJuniorScheme")).addSecurityItem(new SecurityRequirement().addList("JavaTestJuniorBearer")).components(new Components().addSecuritySchemes("JavaTestJuniorScheme", new SecurityScheme().name("JavaTestScheme").type(SecurityScheme.Type.HTTP).scheme("basic")).addSecuritySchemes("JavaTestJuniorBearer", new SecurityScheme().name("JavaTestBearer").type(SecurityScheme.Type.HTTP).scheme("bearer")));
     }
 }
\ No newline at end of file
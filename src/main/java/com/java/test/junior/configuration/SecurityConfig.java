@@ -1,6 +1,10 @@
 package com.java.test.junior.configuration;
 
+import com.java.test.junior.filter.TokenAuthenticationFilter;
+import com.java.test.junior.service.auth.TokenService;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -11,16 +15,23 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
+@RequiredArgsConstructor
 public class SecurityConfig {
+    private final TokenService tokenService;
+
+    @Value("${app.admin.default.role}")
+    private String adminRole;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http.csrf(AbstractHttpConfigurer::disable) // Disable CSRF for testing with Postman
-                .authorizeHttpRequests(auth -> auth.requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll().requestMatchers("/auth/**").permitAll().requestMatchers("/error").permitAll().requestMatchers(HttpMethod.GET, "/products/**").permitAll().requestMatchers("/products/**").authenticated()).exceptionHandling(exception -> exception.authenticationEntryPoint((request, response, authException) -> {
+                .authorizeHttpRequests(auth -> auth.requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll().requestMatchers("/auth/**").permitAll().requestMatchers("/error").permitAll().requestMatchers(HttpMethod.GET, "/products/**").permitAll().requestMatchers("/products/**").authenticated().requestMatchers("/admin/**").hasRole(adminRole)).exceptionHandling(exception -> exception.authenticationEntryPoint((request, response, authException) -> {
                     response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Access Denied");
-                })).httpBasic(Customizer.withDefaults());
+                })).addFilterBefore(new TokenAuthenticationFilter(tokenService), BasicAuthenticationFilter.class).httpBasic(Customizer.withDefaults());
 
         return http.build();
     }
@@ -0,0 +1,60 @@
+package com.java.test.junior.controller;
+
+import com.java.test.junior.model.CacheStats;
+import com.java.test.junior.model.CleanupMode;
+import com.java.test.junior.model.CleanupRun;
+import com.java.test.junior.model.CleanupStatusDTO;
+import com.java.test.junior.model.QuarantineStatsDTO;
+import com.java.test.junior.service.admin.AdminService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Administration", description = "Operational endpoints")
+public class AdminController {
+    private final AdminService adminService;
+
+    @GetMapping("/caches")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get hit/miss statistics of the in-process caches")
+    public List<CacheStats> getCacheStats() {
+        return adminService.getCacheStats();
+    }
+
+    @GetMapping("/cleanup/mode")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get the interaction cleanup mode and trickle throughput")
+    public CleanupStatusDTO getCleanupStatus() {
+        return adminService.getCleanupStatus();
+    }
+
+    @PutMapping("/cleanup/mode")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Switch the interaction cleanup between the nightly cron run and continuous trickle mode")
+    public CleanupStatusDTO switchCleanupMode(@RequestParam("mode") CleanupMode mode) {
+        return adminService.switchCleanupMode(mode);
+    }
+
+    @GetMapping("/cleanup/runs")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get the latest cleanup runs with the node, shard and rows deleted by each")
+    public List<CleanupRun> getCleanupRuns(@RequestParam(value = "limit", defaultValue = "50") int limit) {
+        return adminService.getCleanupRuns(limit);
+    }
+
+    @GetMapping("/cleanup/quarantine")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get the number of interactions the cleanup gave up on and how many are due for retry")
+    public QuarantineStatsDTO getQuarantineStats() {
+        return adminService.getQuarantineStats();
+    }
+}
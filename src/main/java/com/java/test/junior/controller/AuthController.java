@@ -1,7 +1,10 @@
 package com.java.test.junior.controller;
 
+import com.java.test.junior.model.LoginDTO;
+import com.java.test.junior.model.TokenResponseDTO;
 import com.java.test.junior.model.UserRegistrationDTO;
 import com.java.test.junior.model.UserResponseDTO;
+import com.java.test.junior.service.auth.AuthService;
 import com.java.test.junior.service.user.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -20,6 +23,7 @@ import java.security.Principal;
 @Tag(name = "Authentication", description = "Authentication-related endpoints")
 public class AuthController {
     private final UserService userService;
+    private final AuthService authService;
 
     @PostMapping("/register")
     @Operation(summary = "Register a new user")
@@ -31,4 +35,11 @@ public class AuthController {
 
         return userService.save(userRegistrationDTO, principal.getName());
     }
+
+    @PostMapping("/login")
+    @Operation(summary = "Exchange credentials for a signed bearer token")
+    @ResponseStatus(HttpStatus.OK)
+    public TokenResponseDTO login(@Valid @RequestBody LoginDTO loginDTO) {
+        return authService.login(loginDTO);
+    }
 }
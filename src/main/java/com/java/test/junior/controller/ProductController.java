@@ -4,21 +4,35 @@
 
 package com.java.test.junior.controller;
 
+import com.java.test.junior.model.CursorPageResponse;
+import com.java.test.junior.model.ExportFormat;
+import com.java.test.junior.model.InteractionCountsDTO;
+import com.java.test.junior.model.LeaderboardEntryDTO;
 import com.java.test.junior.model.LoadingDTO;
 import com.java.test.junior.model.PageResponse;
 import com.java.test.junior.model.ProductDTO;
+import com.java.test.junior.model.ProductInteractionDTO;
+import com.java.test.junior.model.ProductLookupDTO;
 import com.java.test.junior.model.ProductResponseDTO;
+import com.java.test.junior.model.SearchMode;
+import com.java.test.junior.service.leaderboard.LeaderboardService;
 import com.java.test.junior.service.product.ProductService;
+import com.java.test.junior.util.ProductETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.io.IOException;
-import java.security.Principal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -33,6 +47,7 @@ import java.util.List;
 @Tag(name = "Products", description = "Product-related endpoints")
 public class ProductController {
     private final ProductService productService;
+    private final LeaderboardService leaderboardService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -42,51 +57,107 @@ public class ProductController {
     }
 
     @GetMapping("/{id}")
-    @ResponseStatus(HttpStatus.ACCEPTED)
     @Operation(summary = "Get a product by id")
-    public ProductResponseDTO getProductById(@PathVariable Long id) {
-        return productService.getProductById(id);
+    public ResponseEntity<ProductResponseDTO> getProductById(@PathVariable Long id, WebRequest webRequest) {
+        ProductResponseDTO product = productService.getProductById(id);
+        String eTag = ProductETags.forProduct(product);
+        long lastModified = ProductETags.lastModified(product);
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return null;
+        }
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).cacheControl(CacheControl.noCache()).eTag(eTag).lastModified(lastModified).body(product);
+    }
+
+    @GetMapping("/batch")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get several products by id in one call")
+    public List<ProductLookupDTO> getProductsByIds(@RequestParam("ids") List<Long> ids) {
+        return productService.getProductsByIds(ids);
+    }
+
+    @GetMapping("/interactions")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get like/dislike counts and the caller's state for several products in one call")
+    public List<ProductInteractionDTO> getProductInteractions(@RequestParam("ids") List<Long> ids) {
+        return productService.getProductInteractions(ids);
+    }
+
+    @GetMapping("/top")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get the most liked products")
+    public List<LeaderboardEntryDTO> getTopProducts(@RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return leaderboardService.getTopLiked(limit);
+    }
+
+    @GetMapping("/trending")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get the products with the most recent likes")
+    public List<LeaderboardEntryDTO> getTrendingProducts(@RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return leaderboardService.getTrending(limit);
     }
 
     @PutMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Update a product by id")
-    public ProductResponseDTO updateProduct(@PathVariable Long id, @Valid @RequestBody ProductDTO productDTO, Principal principal) {
-        return productService.modifyProductById(id, productDTO, principal.getName());
+    public ProductResponseDTO updateProduct(@PathVariable Long id, @Valid @RequestBody ProductDTO productDTO) {
+        return productService.modifyProductById(id, productDTO);
     }
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Delete a product by id")
-    public void deleteProduct(@PathVariable Long id, Principal principal) {
-        productService.deleteProductById(id, principal.getName());
+    public void deleteProduct(@PathVariable Long id) {
+        productService.deleteProductById(id);
     }
 
     @GetMapping()
-    @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Get products paginated")
-    public PageResponse<ProductResponseDTO> getPaginatedProducts(@RequestParam(value = "page", defaultValue = "1") int page, @RequestParam(value = "page_size", defaultValue = "3") int size) {
-        return productService.getPaginatedProducts(page, size);
+    public ResponseEntity<PageResponse<ProductResponseDTO>> getPaginatedProducts(@RequestParam(value = "page", defaultValue = "1") int page, @RequestParam(value = "page_size", defaultValue = "3") int size, @RequestParam(value = "fields", required = false) String fields, @RequestParam(value = "include", required = false) String include, WebRequest webRequest) {
+        String eTag = productService.getPaginatedProductsETag(page, size, fields, include);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTag).body(productService.getPaginatedProducts(page, size, fields, include));
+    }
+
+    @GetMapping(params = "cursor")
+    @Operation(summary = "Get products using a keyset cursor")
+    public ResponseEntity<CursorPageResponse<ProductResponseDTO>> getProductsByCursor(@RequestParam(value = "cursor") String cursor, @RequestParam(value = "page_size", defaultValue = "3") int size, @RequestParam(value = "fields", required = false) String fields, WebRequest webRequest) {
+        CursorPageResponse<ProductResponseDTO> response = productService.getProductsByCursor(cursor, size, fields);
+
+        return conditionalList(response.getContent(), response, webRequest, response.getNext(), fields);
     }
 
     @GetMapping("name/{name}")
-    @ResponseStatus(HttpStatus.OK)
-    @Operation(summary = "Get product by name")
-    public List<ProductResponseDTO> getProductByName(@PathVariable String name) {
-        return productService.getProductByName(name);
+    @Operation(summary = "Search products by name (substring, fuzzy or full-text)")
+    public ResponseEntity<List<ProductResponseDTO>> getProductByName(@PathVariable String name, @RequestParam(value = "mode", defaultValue = "SUBSTRING") SearchMode mode, @RequestParam(value = "after_id", required = false) Long afterId, @RequestParam(value = "limit", defaultValue = "20") int limit, @RequestParam(value = "fields", required = false) String fields, WebRequest webRequest) {
+        List<ProductResponseDTO> products = productService.getProductByName(name, mode, afterId, limit, fields);
+
+        return conditionalList(products, products, webRequest, fields);
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Stream the full catalog as NDJSON or CSV")
+    public void exportProducts(@RequestParam(value = "format", defaultValue = "NDJSON") ExportFormat format, HttpServletResponse response) throws IOException {
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=products." + format.getExtension());
+        productService.exportProducts(format, response.getOutputStream());
     }
 
     @PostMapping("/{id}/like")
     @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Like a product")
-    public int likeProduct(@PathVariable Long id) {
+    public InteractionCountsDTO likeProduct(@PathVariable Long id) {
         return productService.handleInteraction(id, true);
     }
 
     @PostMapping("{id}/dislike")
     @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Dislike a product")
-    public int dislikeProduct(@PathVariable Long id) {
+    public InteractionCountsDTO dislikeProduct(@PathVariable Long id) {
 
         return productService.handleInteraction(id, false);
     }
@@ -97,4 +168,13 @@ public class ProductController {
     public void loadProducts(@RequestBody LoadingDTO loadingDTO) {
         productService.loadProductsFromAddress(loadingDTO.getFileAddress());
     }
+
+    private <T> ResponseEntity<T> conditionalList(List<ProductResponseDTO> products, T body, WebRequest webRequest, Object... discriminators) {
+        String eTag = ProductETags.forProducts(products, discriminators);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTag).body(body);
+    }
 }
\ No newline at end of file
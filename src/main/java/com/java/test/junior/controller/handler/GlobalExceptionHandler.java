@@ -22,6 +22,18 @@ public class GlobalExceptionHandler {
         return new ErrorResponse("CONFLICT", ex.getMessage());
     }
 
+    @ExceptionHandler(ProductVersionConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleProductVersionConflict(ProductVersionConflictException ex) {
+        return new ErrorResponse("CONFLICT", ex.getMessage());
+    }
+
+    @ExceptionHandler(InteractionBufferFullException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorResponse handleInteractionBufferFull(InteractionBufferFullException ex) {
+        return new ErrorResponse("SERVICE_UNAVAILABLE", ex.getMessage());
+    }
+
     @ExceptionHandler(UserNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ErrorResponse handleUserNotFound(UserNotFoundException ex) {
@@ -40,6 +52,12 @@ public class GlobalExceptionHandler {
         return new ErrorResponse("UNAUTHORIZED", ex.getMessage());
     }
 
+    @ExceptionHandler(InvalidCredentialsException.class)
+    @ResponseStatus(HttpStatus.UNAUTHORIZED)
+    public ErrorResponse handleInvalidCredentials(InvalidCredentialsException ex) {
+        return new ErrorResponse("UNAUTHORIZED", ex.getMessage());
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ErrorResponse handleFileNotFound(FileNotFoundException ex) {
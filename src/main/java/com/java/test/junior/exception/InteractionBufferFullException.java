@@ -0,0 +1,7 @@
+package com.java.test.junior.exception;
+
+public class InteractionBufferFullException extends RuntimeException {
+    public InteractionBufferFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.java.test.junior.exception;
+
+public class InvalidCredentialsException extends RuntimeException {
+    public InvalidCredentialsException(String message) {
+        super(message);
+    }
+}
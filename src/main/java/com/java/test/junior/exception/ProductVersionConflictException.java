@@ -0,0 +1,7 @@
+package com.java.test.junior.exception;
+
+public class ProductVersionConflictException extends RuntimeException {
+    public ProductVersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,48 @@
+package com.java.test.junior.filter;
+
+import com.java.test.junior.model.AuthenticatedUser;
+import com.java.test.junior.model.TokenClaims;
+import com.java.test.junior.service.auth.TokenService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authenticates requests carrying {@code Authorization: Bearer <token>} issued by {@code POST /auth/login}.
+ * Requests without a valid token fall through to HTTP basic authentication.
+ */
+@RequiredArgsConstructor
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenService tokenService;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX) && SecurityContextHolder.getContext().getAuthentication() == null) {
+            authenticate(header.substring(BEARER_PREFIX.length()).trim());
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private void authenticate(String token) {
+        TokenClaims claims = tokenService.verifyToken(token);
+        if (claims == null) {
+            return;
+        }
+
+        AuthenticatedUser principal = new AuthenticatedUser(claims.getUserId(), claims.getUsername(), null, claims.getRole());
+        UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+}
@@ -0,0 +1,17 @@
+package com.java.test.junior.mapper;
+
+import com.java.test.junior.model.CleanupRun;
+import com.java.test.junior.model.CleanupRunStatus;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface CleanupRunMapper {
+    void insertRun(CleanupRun run);
+
+    void finishRun(@Param("id") Long id, @Param("status") CleanupRunStatus status, @Param("deletedRows") long deletedRows);
+
+    List<CleanupRun> findRecentRuns(@Param("limit") int limit);
+}
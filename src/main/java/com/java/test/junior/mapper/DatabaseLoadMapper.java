@@ -0,0 +1,9 @@
+package com.java.test.junior.mapper;
+
+import com.java.test.junior.model.DatabaseLoad;
+import org.apache.ibatis.annotations.Mapper;
+
+@Mapper
+public interface DatabaseLoadMapper {
+    DatabaseLoad sampleLoad();
+}
@@ -1,6 +1,9 @@
 package com.java.test.junior.mapper;
 
+import com.java.test.junior.model.InteractionCountsDTO;
 import com.java.test.junior.model.InteractionKey;
+import com.java.test.junior.model.PendingInteraction;
+import com.java.test.junior.model.ProductInteractionDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -8,19 +11,25 @@ import java.util.List;
 
 @Mapper
 public interface InteractionMapper {
-    Boolean getActiveInteraction(@Param("userId") Long userId, @Param("productId") Long productId);
+    InteractionCountsDTO toggleInteraction(@Param("userId") Long userId, @Param("productId") Long productId, @Param("isLike") boolean isLike, @Param("shard") int shard);
 
-    void upsertInteraction(@Param("userId") Long userId, @Param("productId") Long productId, @Param("isLike") boolean isLike);
+    InteractionCountsDTO getCounts(@Param("productId") Long productId);
 
-    void softDeleteInteraction(@Param("userId") Long userId, @Param("productId") Long productId);
+    List<ProductInteractionDTO> getProductInteractions(@Param("userId") Long userId, @Param("ids") Long[] ids);
 
-    int getLikeCount(@Param("productId") Long productId);
+    void applyInteractions(@Param("interactions") List<PendingInteraction> interactions);
 
-    int getDislikeCount(@Param("productId") Long productId);
+    boolean tryAdvisoryXactLock(@Param("key") long key);
 
-    List<InteractionKey> fetchKeysToDelete(@Param("batchSize") int batchSize);
+    int reconcileCounts();
+
+    List<InteractionKey> fetchKeysToDelete(@Param("batchSize") int batchSize, @Param("partition") int partition, @Param("partitions") int partitions,
+                                         @Param("retentionSeconds") long retentionSeconds);
+
+    int deleteEligible(@Param("batchSize") int batchSize, @Param("partition") int partition, @Param("partitions") int partitions,
+                       @Param("retentionSeconds") long retentionSeconds);
 
     int deleteByKeys(@Param("keys") List<InteractionKey> keys);
 
-    void incrementDeleteAttempts(@Param("keys") List<InteractionKey> keys);
+    void incrementDeleteAttempts(@Param("keys") List<InteractionKey> keys, @Param("reason") String reason);
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.java.test.junior.mapper;
+
+import com.java.test.junior.model.QuarantineStatsDTO;
+import com.java.test.junior.model.QuarantinedInteraction;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface InteractionQuarantineMapper {
+    int quarantineStuck(@Param("limit") int limit, @Param("initialDelaySeconds") long initialDelaySeconds);
+
+    List<QuarantinedInteraction> findDue(@Param("limit") int limit);
+
+    void release(@Param("userId") Long userId, @Param("productId") Long productId);
+
+    void recordRetryFailure(@Param("userId") Long userId, @Param("productId") Long productId, @Param("reason") String reason,
+                            @Param("baseBackoffSeconds") long baseBackoffSeconds, @Param("maxBackoffSeconds") long maxBackoffSeconds);
+
+    QuarantineStatsDTO getStats();
+}
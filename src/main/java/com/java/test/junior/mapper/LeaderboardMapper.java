@@ -0,0 +1,26 @@
+package com.java.test.junior.mapper;
+
+import com.java.test.junior.model.LeaderboardType;
+import com.java.test.junior.model.ProductScore;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface LeaderboardMapper {
+    boolean tryAdvisoryXactLock(@Param("key") long key);
+
+    List<ProductScore> findBoard(@Param("board") LeaderboardType board, @Param("nodeId") String nodeId);
+
+    List<ProductScore> findOtherNodesBoard(@Param("board") LeaderboardType board, @Param("nodeId") String nodeId,
+                                           @Param("maxAgeSeconds") long maxAgeSeconds, @Param("limit") int limit);
+
+    void clearBoard(@Param("board") LeaderboardType board, @Param("nodeId") String nodeId);
+
+    int deleteStale(@Param("board") LeaderboardType board, @Param("maxAgeSeconds") long maxAgeSeconds);
+
+    int insertTopLiked(@Param("limit") int limit);
+
+    int insertScores(@Param("board") LeaderboardType board, @Param("nodeId") String nodeId, @Param("scores") List<ProductScore> scores);
+}
@@ -7,8 +7,10 @@ package com.java.test.junior.mapper;
 import com.java.test.junior.model.Product;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.io.Reader;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -21,18 +23,34 @@ import java.util.List;
 public interface ProductMapper {
     Product findById(Long id);
 
+    List<Product> findByIds(@Param("ids") Long[] ids);
+
     void insert(Product product);
 
-    void updateProduct(@Param("id") Long id, @Param("product") Product product);
+    Product updateProductAuthorized(@Param("id") Long id, @Param("product") Product product, @Param("userId") Long userId, @Param("admin") boolean admin, @Param("version") Long version);
+
+    int deleteProductAuthorized(@Param("id") Long id, @Param("userId") Long userId, @Param("admin") boolean admin);
+
+    List<Product> getPaginatedProducts(@Param("offset") int offset, @Param("size") int size, @Param("columns") List<String> columns);
+
+    List<Product> getPaginatedProductVersions(@Param("offset") int offset, @Param("size") int size);
 
-    void deleteProduct(Long id);
+    List<Product> getProductsAfterCursor(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, @Param("size") int size, @Param("columns") List<String> columns);
 
-    List<Product> getPaginatedProducts(int offset, int size);
+    List<Product> searchProductsBySubstring(@Param("name") String name, @Param("afterId") Long afterId, @Param("limit") int limit, @Param("columns") List<String> columns);
 
-    List<Product> getProductByName(String name);
+    List<Product> searchProductsBySimilarity(@Param("name") String name, @Param("limit") int limit, @Param("columns") List<String> columns);
+
+    List<Product> searchProductsByFullText(@Param("name") String name, @Param("limit") int limit, @Param("columns") List<String> columns);
+
+    Cursor<Product> streamProducts();
 
     Long countProducts();
 
+    Long countProductsFromCounter();
+
+    Long estimateProductCount();
+
     @org.apache.ibatis.annotations.Insert("COPY_TRIGGER")
     void copy(@Param("reader") Reader reader);
 }
\ No newline at end of file
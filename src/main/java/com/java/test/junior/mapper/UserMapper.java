@@ -12,4 +12,6 @@ public interface UserMapper {
     User findFirstByRole(String role);
 
     String findUsernameById(Long id);
+
+    User findById(Long id);
 }
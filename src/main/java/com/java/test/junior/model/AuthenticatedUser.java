@@ -0,0 +1,35 @@
+package com.java.test.junior.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+
+/**
+ * Security principal carrying the id and role of the {@code users} row, so the service layer
+ * can authorize requests without looking the user up again.
+ */
+@Getter
+@AllArgsConstructor
+public class AuthenticatedUser implements UserDetails, CredentialsContainer {
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final Long id;
+    private final String username;
+    private String password;
+    private final String role;
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AuthorityUtils.createAuthorityList(ROLE_PREFIX + role);
+    }
+
+    @Override
+    public void eraseCredentials() {
+        password = null;
+    }
+}
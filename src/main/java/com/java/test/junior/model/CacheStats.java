@@ -0,0 +1,17 @@
+package com.java.test.junior.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+@AllArgsConstructor
+public class CacheStats {
+    private String name;
+    private int size;
+    private int maxSize;
+    private long hits;
+    private long misses;
+    private long evictions;
+}
@@ -0,0 +1,7 @@
+package com.java.test.junior.model;
+
+public enum CleanupCoordination {
+    NONE,
+    LEADER,
+    SHARDED
+}
@@ -0,0 +1,6 @@
+package com.java.test.junior.model;
+
+public enum CleanupMode {
+    CRON,
+    TRICKLE
+}
@@ -0,0 +1,26 @@
+package com.java.test.junior.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+public class CleanupRun {
+    private Long id;
+    private String nodeId;
+    private CleanupCoordination coordination;
+    private Integer shard;
+    private CleanupRunStatus status;
+    private long deletedRows;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public CleanupRun(String nodeId, CleanupCoordination coordination, Integer shard, CleanupRunStatus status) {
+        this.nodeId = nodeId;
+        this.coordination = coordination;
+        this.shard = shard;
+        this.status = status;
+    }
+}
@@ -0,0 +1,8 @@
+package com.java.test.junior.model;
+
+public enum CleanupRunStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    SKIPPED
+}
@@ -0,0 +1,17 @@
+package com.java.test.junior.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CleanupStatusDTO {
+    private CleanupMode mode;
+    private int trickleBatchSize;
+    private int maxRowsPerSecond;
+    private long trickleDeleted;
+}
@@ -0,0 +1,22 @@
+package com.java.test.junior.model;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Setter
+@Getter
+@NoArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private String next;
+    private boolean hasNext;
+
+    public CursorPageResponse(List<T> content, String next) {
+        this.content = content;
+        this.next = next;
+        this.hasNext = next != null;
+    }
+}
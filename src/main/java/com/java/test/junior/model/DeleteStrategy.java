@@ -0,0 +1,6 @@
+package com.java.test.junior.model;
+
+public enum DeleteStrategy {
+    KEYED,
+    SINGLE_STATEMENT
+}
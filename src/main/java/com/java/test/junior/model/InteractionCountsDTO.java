@@ -0,0 +1,14 @@
+package com.java.test.junior.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InteractionCountsDTO {
+    private int likeCount;
+    private int dislikeCount;
+    private InteractionState state;
+}
@@ -0,0 +1,8 @@
+package com.java.test.junior.model;
+
+public enum InteractionState {
+    LIKED,
+    DISLIKED,
+    NONE,
+    PENDING
+}
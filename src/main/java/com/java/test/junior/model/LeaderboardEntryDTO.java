@@ -0,0 +1,16 @@
+package com.java.test.junior.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardEntryDTO {
+    private int rank;
+    private long score;
+    private ProductResponseDTO product;
+}
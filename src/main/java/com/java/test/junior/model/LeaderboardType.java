@@ -0,0 +1,6 @@
+package com.java.test.junior.model;
+
+public enum LeaderboardType {
+    TOP,
+    TRENDING
+}
@@ -13,6 +13,7 @@ public class PageResponse<T> {
     private int totalPages;
     private Long totalElements;
     private boolean hasNext;
+    private boolean approximate;
 
     public PageResponse(List<T> content, int currentPage, int size, Long totalElements, int totalPages) {
         this.content = content;
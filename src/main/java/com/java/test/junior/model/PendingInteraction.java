@@ -0,0 +1,34 @@
+package com.java.test.junior.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A buffered like/dislike waiting to be flushed. A toggle is resolved against the stored row at flush time,
+ * otherwise {@code like}/{@code deleted} are written as they are. A {@code repeated} toggle is the same choice
+ * toggled twice: it keeps the stored row if it already held that choice and deletes it otherwise.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingInteraction {
+    private Long userId;
+    private Long productId;
+    private boolean like;
+    private boolean deleted;
+    private boolean toggle;
+    private boolean repeated;
+    private int shard;
+
+    public InteractionState getState() {
+        if (toggle) {
+            return InteractionState.PENDING;
+        }
+        if (deleted) {
+            return InteractionState.NONE;
+        }
+
+        return like ? InteractionState.LIKED : InteractionState.DISLIKED;
+    }
+}
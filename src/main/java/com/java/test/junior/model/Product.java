@@ -39,6 +39,8 @@ public class Product {
     private Long userId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private String username;
+    private Long version;
 
     public Product(String name, Double price, String description, Long userId, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.name = name;
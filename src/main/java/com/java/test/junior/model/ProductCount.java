@@ -0,0 +1,11 @@
+package com.java.test.junior.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProductCount {
+    private long total;
+    private boolean approximate;
+}
@@ -0,0 +1,13 @@
+package com.java.test.junior.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class ProductCursor {
+    private LocalDateTime createdAt;
+    private Long id;
+}
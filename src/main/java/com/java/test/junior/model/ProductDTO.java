@@ -10,6 +10,7 @@ import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 /**
@@ -19,6 +20,7 @@ import lombok.Setter;
  */
 @Getter
 @Setter
+@NoArgsConstructor
 @AllArgsConstructor
 public class ProductDTO {
     @NotBlank(message = "Name cannot be empty")
@@ -30,4 +32,10 @@ public class ProductDTO {
     @NotBlank(message = "Description cannot be empty")
     @Size(max = 1000, message = "Description must be less than 1000 characters")
     private String description;
+    @PositiveOrZero(message = "Version must be positive or zero")
+    private Long version;
+
+    public ProductDTO(String name, Double price, String description) {
+        this(name, price, description, null);
+    }
 }
\ No newline at end of file
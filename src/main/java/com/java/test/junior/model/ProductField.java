@@ -0,0 +1,21 @@
+package com.java.test.junior.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Product attributes that can be requested through {@code fields=}, with the SQL expression that loads each one.
+ * {@code id} and {@code updatedAt} are always returned, so they are not listed here.
+ */
+@Getter
+@AllArgsConstructor
+public enum ProductField {
+    NAME("name", "p.name"),
+    PRICE("price", "p.price"),
+    DESCRIPTION("description", "p.description"),
+    USER_ID("userId", "p.user_id"),
+    USERNAME("username", "u.username");
+
+    private final String fieldName;
+    private final String column;
+}
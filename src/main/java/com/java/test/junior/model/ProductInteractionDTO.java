@@ -0,0 +1,17 @@
+package com.java.test.junior.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProductInteractionDTO {
+    private Long productId;
+    private int likeCount;
+    private int dislikeCount;
+    private InteractionState state;
+}
@@ -0,0 +1,16 @@
+package com.java.test.junior.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductLookupDTO {
+    private Long id;
+    private boolean found;
+    private ProductResponseDTO product;
+}
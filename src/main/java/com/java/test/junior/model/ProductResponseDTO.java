@@ -1,12 +1,17 @@
 package com.java.test.junior.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @Setter
 @Getter
 @AllArgsConstructor
+@NoArgsConstructor
 public class ProductResponseDTO {
     private Long id;
     private String name;
@@ -14,4 +19,8 @@ public class ProductResponseDTO {
     private String description;
     private Long userId;
     private String username;
+    private LocalDateTime updatedAt;
+    private Long version;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ProductInteractionDTO interactions;
 }
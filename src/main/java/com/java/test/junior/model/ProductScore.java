@@ -0,0 +1,13 @@
+package com.java.test.junior.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductScore {
+    private Long productId;
+    private long score;
+}
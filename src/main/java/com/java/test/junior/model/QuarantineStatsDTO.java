@@ -0,0 +1,20 @@
+package com.java.test.junior.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuarantineStatsDTO {
+    private long stuck;
+    private long quarantined;
+    private long dueForRetry;
+    private int maxRetryAttempts;
+    private LocalDateTime oldestQuarantinedAt;
+}
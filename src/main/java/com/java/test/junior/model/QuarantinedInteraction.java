@@ -0,0 +1,18 @@
+package com.java.test.junior.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+public class QuarantinedInteraction {
+    private Long userId;
+    private Long productId;
+    private String reason;
+    private int retryAttempts;
+    private LocalDateTime quarantinedAt;
+    private LocalDateTime lastRetryAt;
+    private LocalDateTime nextRetryAt;
+}
@@ -0,0 +1,7 @@
+package com.java.test.junior.model;
+
+public enum SearchMode {
+    SUBSTRING,
+    FUZZY,
+    FULLTEXT
+}
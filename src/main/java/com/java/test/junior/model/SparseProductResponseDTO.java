@@ -0,0 +1,20 @@
+package com.java.test.junior.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Product returned for a {@code fields=} request: fields that were not loaded are left out of the JSON
+ * instead of being serialized as {@code null}.
+ */
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SparseProductResponseDTO extends ProductResponseDTO {
+
+    public SparseProductResponseDTO(Long id, String name, Double price, String description, Long userId, String username,
+                                    LocalDateTime updatedAt, Long version) {
+        super(id, name, price, description, userId, username, updatedAt, version, null);
+    }
+}
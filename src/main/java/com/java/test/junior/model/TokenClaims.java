@@ -0,0 +1,13 @@
+package com.java.test.junior.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TokenClaims {
+    private String username;
+    private Long userId;
+    private String role;
+    private long expiresAt;
+}
@@ -0,0 +1,14 @@
+package com.java.test.junior.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+@AllArgsConstructor
+public class TokenResponseDTO {
+    private String token;
+    private String tokenType;
+    private long expiresIn;
+}
@@ -0,0 +1,21 @@
+package com.java.test.junior.service.admin;
+
+import com.java.test.junior.model.CacheStats;
+import com.java.test.junior.model.CleanupMode;
+import com.java.test.junior.model.CleanupRun;
+import com.java.test.junior.model.CleanupStatusDTO;
+import com.java.test.junior.model.QuarantineStatsDTO;
+
+import java.util.List;
+
+public interface AdminService {
+    List<CacheStats> getCacheStats();
+
+    CleanupStatusDTO getCleanupStatus();
+
+    CleanupStatusDTO switchCleanupMode(CleanupMode mode);
+
+    List<CleanupRun> getCleanupRuns(int limit);
+
+    QuarantineStatsDTO getQuarantineStats();
+}
@@ -0,0 +1,55 @@
+package com.java.test.junior.service.admin;
+
+import com.java.test.junior.model.CacheStats;
+import com.java.test.junior.model.CleanupMode;
+import com.java.test.junior.model.CleanupRun;
+import com.java.test.junior.model.CleanupStatusDTO;
+import com.java.test.junior.model.QuarantineStatsDTO;
+import com.java.test.junior.service.database.CleanupCoordinator;
+import com.java.test.junior.service.database.InteractionQuarantineService;
+import com.java.test.junior.service.database.TrickleCleanupService;
+import com.java.test.junior.service.product.ProductCache;
+import com.java.test.junior.service.user.UserCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AdminServiceImpl implements AdminService {
+    private final UserCache userCache;
+    private final ProductCache productCache;
+    private final TrickleCleanupService trickleCleanupService;
+    private final CleanupCoordinator cleanupCoordinator;
+    private final InteractionQuarantineService quarantineService;
+
+    @Override
+    public List<CacheStats> getCacheStats() {
+        List<CacheStats> stats = new ArrayList<>(userCache.getStats());
+        stats.add(productCache.getStats());
+
+        return stats;
+    }
+
+    @Override
+    public CleanupStatusDTO getCleanupStatus() {
+        return trickleCleanupService.getStatus();
+    }
+
+    @Override
+    public CleanupStatusDTO switchCleanupMode(CleanupMode mode) {
+        return trickleCleanupService.switchMode(mode);
+    }
+
+    @Override
+    public List<CleanupRun> getCleanupRuns(int limit) {
+        return cleanupCoordinator.getRecentRuns(limit);
+    }
+
+    @Override
+    public QuarantineStatsDTO getQuarantineStats() {
+        return quarantineService.getStats();
+    }
+}
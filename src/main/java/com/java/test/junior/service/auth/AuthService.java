@@ -0,0 +1,12 @@
+package com.java.test.junior.service.auth;
+
+import com.java.test.junior.model.LoginDTO;
+import com.java.test.junior.model.TokenResponseDTO;
+
+public interface AuthService {
+    /**
+     * @param loginDTO the credentials to check
+     * @return a bearer token that can be used instead of basic authentication until it expires
+     */
+    TokenResponseDTO login(LoginDTO loginDTO);
+}
@@ -0,0 +1,45 @@
+package com.java.test.junior.service.auth;
+
+import com.java.test.junior.exception.InvalidCredentialsException;
+import com.java.test.junior.model.LoginDTO;
+import com.java.test.junior.model.TokenResponseDTO;
+import com.java.test.junior.model.User;
+import com.java.test.junior.service.user.UserService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+@Service
+public class AuthServiceImpl implements AuthService {
+    private static final String TOKEN_TYPE = "Bearer";
+
+    private final UserService userService;
+    private final TokenService tokenService;
+    private final PasswordEncoder passwordEncoder;
+    private final String dummyPasswordHash;
+
+    /**
+     * The dummy hash is encoded with the same encoder as stored passwords, so checking an unknown
+     * username costs as much as checking a wrong password and response time does not reveal which
+     * usernames exist.
+     */
+    public AuthServiceImpl(UserService userService, TokenService tokenService, PasswordEncoder passwordEncoder) {
+        this.userService = userService;
+        this.tokenService = tokenService;
+        this.passwordEncoder = passwordEncoder;
+        this.dummyPasswordHash = passwordEncoder.encode(UUID.randomUUID().toString());
+    }
+
+    @Override
+    public TokenResponseDTO login(LoginDTO loginDTO) {
+        User user = userService.getUserByUsername(loginDTO.getUsername());
+        String passwordHash = user == null ? dummyPasswordHash : user.getPassword();
+        boolean matches = passwordEncoder.matches(loginDTO.getPassword(), passwordHash);
+        if (user == null || !matches) {
+            throw new InvalidCredentialsException("Invalid username or password");
+        }
+
+        return new TokenResponseDTO(tokenService.issueToken(user), TOKEN_TYPE, tokenService.getTtlSeconds());
+    }
+}
@@ -0,0 +1,20 @@
+package com.java.test.junior.service.auth;
+
+import com.java.test.junior.model.TokenClaims;
+import com.java.test.junior.model.User;
+
+public interface TokenService {
+    /**
+     * @param user the authenticated user the token is issued for
+     * @return a signed token that expires after {@code app.auth.token.ttl-seconds}
+     */
+    String issueToken(User user);
+
+    long getTtlSeconds();
+
+    /**
+     * @param token the token presented by the client
+     * @return the claims carried by the token, or {@code null} if the signature is invalid or the token expired
+     */
+    TokenClaims verifyToken(String token);
+}
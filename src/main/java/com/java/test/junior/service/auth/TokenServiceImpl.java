@@ -0,0 +1,117 @@
+package com.java.test.junior.service.auth;
+
+import com.java.test.junior.model.TokenClaims;
+import com.java.test.junior.model.User;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Issues and verifies HMAC-SHA256 signed tokens of the form {@code base64url(payload).base64url(signature)},
+ * where the payload is {@code username|userId|role|expiresAt}.
+ * Verification is local, so authenticated requests skip the BCrypt check and the user lookup.
+ */
+@Log4j2
+@Service
+public class TokenServiceImpl implements TokenService {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String TOKEN_SEPARATOR = ".";
+    private static final String CLAIM_SEPARATOR = "|";
+    private static final int GENERATED_SECRET_BYTES = 32;
+
+    private final SecretKeySpec signingKey;
+    private final long ttlSeconds;
+
+    public TokenServiceImpl(@Value("${app.auth.token.secret}") String secret,
+                            @Value("${app.auth.token.ttl-seconds}") long ttlSeconds) {
+        this.signingKey = new SecretKeySpec(resolveSecret(secret), ALGORITHM);
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    private static byte[] resolveSecret(String secret) {
+        if (secret != null && !secret.isBlank()) {
+            return secret.getBytes(StandardCharsets.UTF_8);
+        }
+        log.warn("app.auth.token.secret is not set, generating a random key; tokens will not survive a restart or work across nodes");
+        byte[] generated = new byte[GENERATED_SECRET_BYTES];
+        new SecureRandom().nextBytes(generated);
+
+        return generated;
+    }
+
+    @Override
+    public String issueToken(User user) {
+        long expiresAt = Instant.now().getEpochSecond() + ttlSeconds;
+        String payload = String.join(CLAIM_SEPARATOR, user.getUsername(), String.valueOf(user.getId()), user.getRole(), String.valueOf(expiresAt));
+
+        return encode(payload.getBytes(StandardCharsets.UTF_8)) + TOKEN_SEPARATOR + encode(sign(payload));
+    }
+
+    @Override
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    @Override
+    public TokenClaims verifyToken(String token) {
+        int separatorIndex = token.indexOf(TOKEN_SEPARATOR);
+        if (separatorIndex < 0) {
+            return null;
+        }
+
+        try {
+            String payload = new String(decode(token.substring(0, separatorIndex)), StandardCharsets.UTF_8);
+            byte[] signature = decode(token.substring(separatorIndex + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                return null;
+            }
+
+            return parseClaims(payload);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private TokenClaims parseClaims(String payload) {
+        int expiresAtIndex = payload.lastIndexOf(CLAIM_SEPARATOR);
+        int roleIndex = expiresAtIndex > 0 ? payload.lastIndexOf(CLAIM_SEPARATOR, expiresAtIndex - 1) : -1;
+        int userIdIndex = roleIndex > 0 ? payload.lastIndexOf(CLAIM_SEPARATOR, roleIndex - 1) : -1;
+        if (userIdIndex < 0) {
+            return null;
+        }
+        long expiresAt = Long.parseLong(payload.substring(expiresAtIndex + 1));
+        if (Instant.now().getEpochSecond() >= expiresAt) {
+            return null;
+        }
+
+        return new TokenClaims(payload.substring(0, userIdIndex), Long.parseLong(payload.substring(userIdIndex + 1, roleIndex)), payload.substring(roleIndex + 1, expiresAtIndex), expiresAt);
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(signingKey);
+
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Token signing failed", e);
+        }
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static byte[] decode(String value) {
+        return Base64.getUrlDecoder().decode(value);
+    }
+}
@@ -0,0 +1,14 @@
+package com.java.test.junior.service.database;
+
+import com.java.test.junior.model.CleanupRun;
+
+import java.util.List;
+
+public interface CleanupCoordinator {
+    /**
+     * Runs the hard-delete job under the configured cluster coordination and records what this node did.
+     */
+    void runCoordinated();
+
+    List<CleanupRun> getRecentRuns(int limit);
+}
@@ -0,0 +1,158 @@
+package com.java.test.junior.service.database;
+
+import com.java.test.junior.exception.IllegalArgumentException;
+import com.java.test.junior.mapper.CleanupRunMapper;
+import com.java.test.junior.model.CleanupCoordination;
+import com.java.test.junior.model.CleanupRun;
+import com.java.test.junior.model.CleanupRunStatus;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * Coordinates the nightly cleanup across nodes with session-level advisory locks, held on a dedicated
+ * connection for as long as the work they guard:
+ * <ul>
+ *     <li>{@code LEADER}: only the node that gets the job lock runs, the others record a skipped run</li>
+ *     <li>{@code SHARDED}: nodes walk the shards and each processes the ones whose lock it gets, so every
+ *     {@code product_id} hash range is cleaned by exactly one node</li>
+ * </ul>
+ * A connection that fails to release its lock is closed instead of going back to the pool, where the session
+ * would keep the lock and make every other node skip until it is recycled.
+ */
+@Log4j2
+@Service
+public class CleanupCoordinatorImpl implements CleanupCoordinator {
+    private static final long LEADER_LOCK_KEY = 0x636c65616e00L;
+    private static final long SHARD_LOCK_KEY_BASE = 0x636c65616e01L;
+    private static final int MAX_RUNS_LIMIT = 500;
+
+    private final DatabaseScheduleService databaseScheduleService;
+    private final CleanupRunMapper cleanupRunMapper;
+    private final DataSource dataSource;
+    private final CleanupCoordination coordination;
+    private final int shards;
+    private final String nodeId;
+
+    public CleanupCoordinatorImpl(DatabaseScheduleService databaseScheduleService,
+                                  CleanupRunMapper cleanupRunMapper,
+                                  DataSource dataSource,
+                                  @Value("${app.database.cleanup-coordination}") CleanupCoordination coordination,
+                                  @Value("${app.database.cleanup-shards}") int shards,
+                                  @Value("${app.node.id}") String nodeId) {
+        this.databaseScheduleService = databaseScheduleService;
+        this.cleanupRunMapper = cleanupRunMapper;
+        this.dataSource = dataSource;
+        this.coordination = coordination;
+        this.shards = shards;
+        this.nodeId = nodeId.isBlank() ? ManagementFactory.getRuntimeMXBean().getName() : nodeId;
+    }
+
+    @Override
+    public void runCoordinated() {
+        switch (coordination) {
+            case NONE -> record(null, databaseScheduleService::hardDeleteOldInteractions);
+            case LEADER -> runAsLeader();
+            case SHARDED -> runShards();
+        }
+    }
+
+    @Override
+    public List<CleanupRun> getRecentRuns(int limit) {
+        if (limit <= 0 || limit > MAX_RUNS_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_RUNS_LIMIT);
+        }
+
+        return cleanupRunMapper.findRecentRuns(limit);
+    }
+
+    private void runAsLeader() {
+        try (Connection lockConnection = dataSource.getConnection()) {
+            if (!tryLock(lockConnection, LEADER_LOCK_KEY)) {
+                log.info("Cleanup is running on another node, skipping");
+                cleanupRunMapper.insertRun(new CleanupRun(nodeId, coordination, null, CleanupRunStatus.SKIPPED));
+                return;
+            }
+            try {
+                record(null, databaseScheduleService::hardDeleteOldInteractions);
+            } finally {
+                unlock(lockConnection, LEADER_LOCK_KEY);
+            }
+        } catch (SQLException e) {
+            log.error("Cleanup coordination failed. Reason: {}", e.getMessage());
+        }
+    }
+
+    private void runShards() {
+        long startTime = System.currentTimeMillis();
+        try (Connection lockConnection = dataSource.getConnection()) {
+            for (int shard = 0; shard < shards; shard++) {
+                long key = SHARD_LOCK_KEY_BASE + shard;
+                if (!tryLock(lockConnection, key)) {
+                    continue;
+                }
+                int claimed = shard;
+                try {
+                    record(claimed, () -> databaseScheduleService.hardDeletePartition(claimed, shards, startTime));
+                } finally {
+                    unlock(lockConnection, key);
+                }
+            }
+        } catch (SQLException e) {
+            log.error("Cleanup coordination failed. Reason: {}", e.getMessage());
+        }
+    }
+
+    private void record(Integer shard, IntSupplier job) {
+        CleanupRun run = new CleanupRun(nodeId, coordination, shard, CleanupRunStatus.RUNNING);
+        cleanupRunMapper.insertRun(run);
+        try {
+            int deleted = job.getAsInt();
+            cleanupRunMapper.finishRun(run.getId(), CleanupRunStatus.COMPLETED, deleted);
+        } catch (RuntimeException e) {
+            cleanupRunMapper.finishRun(run.getId(), CleanupRunStatus.FAILED, 0);
+            throw e;
+        }
+    }
+
+    private boolean tryLock(Connection connection, long key) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            statement.setLong(1, key);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private void unlock(Connection connection, long key) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            statement.setLong(1, key);
+            statement.execute();
+        } catch (SQLException e) {
+            discard(connection);
+            throw e;
+        }
+    }
+
+    private void discard(Connection connection) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                dataSource.unwrap(HikariDataSource.class).evictConnection(connection);
+            } else {
+                connection.abort(Runnable::run);
+            }
+        } catch (SQLException e) {
+            log.error("Could not close the cleanup lock connection. Reason: {}", e.getMessage());
+        }
+    }
+}
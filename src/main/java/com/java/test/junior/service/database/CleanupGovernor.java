@@ -0,0 +1,17 @@
+package com.java.test.junior.service.database;
+
+/**
+ * Sizes and paces cleanup batches from their observed latency and the database load.
+ */
+public interface CleanupGovernor {
+    boolean isEnabled();
+
+    int nextBatchSize();
+
+    /**
+     * Records a successful batch and returns how long to pause before the next one, in milliseconds.
+     */
+    long onSuccess(int deletedRows, long latencyMillis);
+
+    void onFailure();
+}
@@ -0,0 +1,108 @@
+package com.java.test.junior.service.database;
+
+import com.java.test.junior.mapper.DatabaseLoadMapper;
+import com.java.test.junior.model.DatabaseLoad;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * AIMD controller: the batch size grows by {@code additiveStep} while batches finish within the latency target
+ * and the database is quiet, and halves on a slow batch, lock waits, a busy database or a failure.
+ */
+@Log4j2
+@Service
+public class CleanupGovernorImpl implements CleanupGovernor {
+    private final DatabaseLoadMapper databaseLoadMapper;
+    private final boolean enabled;
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final int additiveStep;
+    private final long targetLatencyMillis;
+    private final long minPauseMillis;
+    private final long busyPauseMillis;
+    private final int maxActiveConnections;
+    private final long maxReplicationLagMillis;
+    private final long sampleIntervalMillis;
+
+    private int batchSize;
+    private DatabaseLoad lastLoad = new DatabaseLoad();
+    private long lastSampleAt;
+
+    public CleanupGovernorImpl(DatabaseLoadMapper databaseLoadMapper,
+                               @Value("${app.database.governor.enabled}") boolean enabled,
+                               @Value("${app.database.governor.min-batch-size}") int minBatchSize,
+                               @Value("${app.database.governor.max-batch-size}") int maxBatchSize,
+                               @Value("${app.database.governor.additive-step}") int additiveStep,
+                               @Value("${app.database.governor.target-latency-millis}") long targetLatencyMillis,
+                               @Value("${app.database.governor.min-pause-millis}") long minPauseMillis,
+                               @Value("${app.database.governor.busy-pause-millis}") long busyPauseMillis,
+                               @Value("${app.database.governor.max-active-connections}") int maxActiveConnections,
+                               @Value("${app.database.governor.max-replication-lag-millis}") long maxReplicationLagMillis,
+                               @Value("${app.database.governor.sample-interval-millis}") long sampleIntervalMillis) {
+        this.databaseLoadMapper = databaseLoadMapper;
+        this.enabled = enabled;
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.additiveStep = additiveStep;
+        this.targetLatencyMillis = targetLatencyMillis;
+        this.minPauseMillis = minPauseMillis;
+        this.busyPauseMillis = busyPauseMillis;
+        this.maxActiveConnections = maxActiveConnections;
+        this.maxReplicationLagMillis = maxReplicationLagMillis;
+        this.sampleIntervalMillis = sampleIntervalMillis;
+        this.batchSize = minBatchSize;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public synchronized int nextBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public synchronized long onSuccess(int deletedRows, long latencyMillis) {
+        DatabaseLoad load = currentLoad();
+        boolean busy = isBusy(load);
+        if (busy || load.getLockWaiters() > 0 || latencyMillis > targetLatencyMillis) {
+            decrease();
+        } else if (deletedRows >= batchSize) {
+            batchSize = Math.min(maxBatchSize, batchSize + additiveStep);
+        }
+
+        return busy ? busyPauseMillis : minPauseMillis;
+    }
+
+    @Override
+    public synchronized void onFailure() {
+        decrease();
+    }
+
+    private void decrease() {
+        batchSize = Math.max(minBatchSize, batchSize / 2);
+    }
+
+    private boolean isBusy(DatabaseLoad load) {
+        return load.getActiveConnections() > maxActiveConnections || load.getReplicationLagMillis() > maxReplicationLagMillis;
+    }
+
+    private DatabaseLoad currentLoad() {
+        long now = System.currentTimeMillis();
+        if (now - lastSampleAt < sampleIntervalMillis) {
+            return lastLoad;
+        }
+        lastSampleAt = now;
+        try {
+            lastLoad = databaseLoadMapper.sampleLoad();
+        } catch (RuntimeException e) {
+            log.warn("Could not sample database load, pacing on latency only. Reason: {}", e.getMessage());
+            lastLoad = new DatabaseLoad();
+        }
+
+        return lastLoad;
+    }
+}
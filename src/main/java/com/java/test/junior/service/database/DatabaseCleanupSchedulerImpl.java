@@ -1,5 +1,6 @@
 package com.java.test.junior.service.database;
 
+import com.java.test.junior.model.CleanupMode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -9,11 +10,16 @@ import org.springframework.stereotype.Service;
 @Service
 @RequiredArgsConstructor
 public class DatabaseCleanupSchedulerImpl implements DatabaseCleanupScheduler {
-    private final DatabaseScheduleService databaseScheduleService;
+    private final CleanupCoordinator cleanupCoordinator;
+    private final TrickleCleanupService trickleCleanupService;
 
     @Scheduled(cron = "${app.database.cleanup-cron}")
     public void scheduledHardDelete() {
+        if (trickleCleanupService.getMode() == CleanupMode.TRICKLE) {
+            log.info("Skipping scheduled hard delete, trickle cleanup is running");
+            return;
+        }
         log.info("Triggered scheduled hard delete job");
-        databaseScheduleService.hardDeleteOldInteractions();
+        cleanupCoordinator.runCoordinated();
     }
 }
\ No newline at end of file
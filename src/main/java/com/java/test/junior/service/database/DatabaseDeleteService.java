@@ -2,4 +2,6 @@ package com.java.test.junior.service.database;
 
 public interface DatabaseDeleteService {
     int performManagedBatch(int batchSize);
+
+    int performManagedBatch(int batchSize, int partition, int partitions);
 }
@@ -1,31 +1,100 @@
 package com.java.test.junior.service.database;
 
-import com.java.test.junior.mapper.InteractionMapper;
+import com.java.test.junior.model.DeleteStrategy;
 import com.java.test.junior.model.InteractionKey;
 import com.java.test.junior.service.interaction.InteractionService;
+import com.java.test.junior.util.FailureReasons;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 
+@Log4j2
 @Service
 @RequiredArgsConstructor
 public class DatabaseDeleteServiceImpl implements DatabaseDeleteService {
 
     private final InteractionService interactionService;
+    private final DeleteAttemptRecorder deleteAttemptRecorder;
+
+    @Value("${app.database.delete-strategy}")
+    private DeleteStrategy deleteStrategy;
 
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public int performManagedBatch(int batchSize) {
-        List<InteractionKey> keys = interactionService.getInteractionsToDelete(batchSize);
+        return deleteBatch(batchSize, 0, 1);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int performManagedBatch(int batchSize, int partition, int partitions) {
+        return deleteBatch(batchSize, partition, partitions);
+    }
+
+    private int deleteBatch(int batchSize, int partition, int partitions) {
+        if (deleteStrategy == DeleteStrategy.SINGLE_STATEMENT) {
+            return deleteInOneStatement(batchSize, partition, partitions);
+        }
+
+        return deleteByKeys(batchSize, partition, partitions);
+    }
+
+    /**
+     * A failed single statement does not say which rows it had claimed, so the batch is rolled back to a
+     * savepoint and retried by key in the same transaction; a keyed failure then charges exactly the claimed rows.
+     */
+    private int deleteInOneStatement(int batchSize, int partition, int partitions) {
+        TransactionStatus status = TransactionAspectSupport.currentTransactionStatus();
+        Object savepoint = status.createSavepoint();
+        try {
+            int deleted = interactionService.deleteEligibleInteractions(batchSize, partition, partitions);
+            status.releaseSavepoint(savepoint);
+            return deleted;
+        } catch (RuntimeException e) {
+            status.rollbackToSavepoint(savepoint);
+            log.warn("Single-statement delete failed, retrying the batch by key. Reason: {}", e.getMessage());
+            return deleteByKeys(batchSize, partition, partitions);
+        }
+    }
+
+    private int deleteByKeys(int batchSize, int partition, int partitions) {
+        List<InteractionKey> keys = interactionService.getInteractionsToDelete(batchSize, partition, partitions);
         if (keys.isEmpty()) return 0;
         try {
             return interactionService.deleteInteractions(keys);
-        } catch (Exception e) {
-            interactionService.incrementDeleteAttempts(keys);
+        } catch (RuntimeException e) {
+            String reason = FailureReasons.of(e);
+            onRollback(() -> deleteAttemptRecorder.recordFailedKeys(keys, reason));
             throw e;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Runs {@code action} once the batch has rolled back and released its row locks; recording inside the
+     * failing transaction would be rolled back with it.
+     */
+    private void onRollback(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                try {
+                    action.run();
+                } catch (Exception e) {
+                    log.warn("Could not record failed delete attempt. Reason: {}", e.getMessage());
+                }
+            }
+        });
+    }
+}
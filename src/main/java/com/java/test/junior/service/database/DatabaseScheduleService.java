@@ -1,5 +1,16 @@
 package com.java.test.junior.service.database;
 
 public interface DatabaseScheduleService {
-    void hardDeleteOldInteractions();
+    /**
+     * @return the number of interactions deleted
+     */
+    int hardDeleteOldInteractions();
+
+    /**
+     * Deletes the soft-deleted interactions whose {@code product_id} hashes to {@code partition}, on the calling
+     * thread, until none are left or the job's time budget counted from {@code startTime} runs out.
+     *
+     * @return the number of interactions deleted
+     */
+    int hardDeletePartition(int partition, int partitions, long startTime);
 }
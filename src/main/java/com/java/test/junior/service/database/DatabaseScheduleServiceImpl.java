@@ -6,6 +6,15 @@ import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
 @Log4j2
 @Service
 @RequiredArgsConstructor
@@ -14,27 +23,91 @@ public class DatabaseScheduleServiceImpl implements DatabaseScheduleService {
     private static final long INITIAL_BACKOFF = 500;
 
     private final DatabaseDeleteService databaseDeleteService;
+    private final CleanupGovernor cleanupGovernor;
 
     @Value("${app.database.batch-size}")
     private int batchSize;
     @Value("${app.database.max-duration-millis}")
     private long maxDurationMillis;
+    @Value("${app.database.cleanup-workers}")
+    private int workers;
+    @Value("${app.database.cleanup-partitioned}")
+    private boolean partitioned;
 
     @Override
-    public void hardDeleteOldInteractions() {
+    public int hardDeleteOldInteractions() {
         log.info("Starting hardDeleteOldInteractions task");
         long startTime = System.currentTimeMillis();
-        int totalDeleted = runBatchLoop(startTime);
+        int totalDeleted = workers <= 1 ? runBatchLoop(startTime, () -> databaseDeleteService.performManagedBatch(currentBatchSize())) : runWorkers(startTime);
         log.info("Finished task. Total deleted: {}, duration: {}ms", totalDeleted, System.currentTimeMillis() - startTime);
+
+        return totalDeleted;
+    }
+
+    @Override
+    public int hardDeletePartition(int partition, int partitions, long startTime) {
+        log.info("Starting hard delete of partition {}/{}", partition, partitions);
+        int deleted = runBatchLoop(startTime, () -> databaseDeleteService.performManagedBatch(currentBatchSize(), partition, partitions));
+        log.info("Finished partition {}/{}. Deleted: {}", partition, partitions, deleted);
+
+        return deleted;
+    }
+
+    /**
+     * Runs one batch loop per worker against the shared deadline. Each worker keeps its own backoff; when
+     * partitioned, worker {@code i} only claims rows whose product hashes to {@code i}.
+     */
+    private int runWorkers(long startTime) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(workers, runnable -> new Thread(runnable, "interaction-cleanup-" + threadIndex.incrementAndGet()));
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int worker = 0; worker < workers; worker++) {
+                IntSupplier step = partitionedStep(worker);
+                results.add(pool.submit(() -> runBatchLoop(startTime, step)));
+            }
+
+            return sum(results);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private IntSupplier partitionedStep(int worker) {
+        if (!partitioned) {
+            return () -> databaseDeleteService.performManagedBatch(currentBatchSize());
+        }
+
+        return () -> databaseDeleteService.performManagedBatch(currentBatchSize(), worker, workers);
+    }
+
+    private int currentBatchSize() {
+        return cleanupGovernor.isEnabled() ? cleanupGovernor.nextBatchSize() : batchSize;
     }
 
-    private int runBatchLoop(long startTime) {
+    private int sum(List<Future<Integer>> results) {
+        int total = 0;
+        for (Future<Integer> result : results) {
+            try {
+                total += result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return total;
+            } catch (ExecutionException e) {
+                log.error("Cleanup worker failed. Reason: {}", e.getCause().getMessage());
+            }
+        }
+
+        return total;
+    }
+
+    private int runBatchLoop(long startTime, IntSupplier step) {
         int totalDeleted = 0;
         int failureCount = 0;
 
         while (isTimeNotExpired(startTime)) {
 
-            BatchResult result = processSingleIteration(failureCount, startTime);
+            BatchResult result = processSingleIteration(step, failureCount, startTime);
             totalDeleted += result.getDeleted();
             failureCount = result.getFailureCount();
             if (result.isShouldStop()) {
@@ -45,26 +118,30 @@ public class DatabaseScheduleServiceImpl implements DatabaseScheduleService {
         return totalDeleted;
     }
 
-    private BatchResult processSingleIteration(int failureCount, long startTime) {
+    private BatchResult processSingleIteration(IntSupplier step, int failureCount, long startTime) {
         try {
-            return handleSuccess(failureCount);
+            return handleSuccess(step, failureCount);
         } catch (Exception e) {
             return handleFailure(e, ++failureCount, startTime);
         }
     }
 
-    private BatchResult handleSuccess(int failureCount) {
-        int deletedRows = executeDeletionStep();
+    private BatchResult handleSuccess(IntSupplier step, int failureCount) {
+        long started = System.currentTimeMillis();
+        int deletedRows = executeDeletionStep(step);
         if (deletedRows == 0) {
             return new BatchResult(0, failureCount, true);
         }
-        sleep(0);
+        pause(deletedRows, System.currentTimeMillis() - started);
 
         return new BatchResult(deletedRows, 0, false);
     }
 
     private BatchResult handleFailure(Exception e, int failureCount, long startTime) {
         log.error("Batch failed. Reason: {}", e.getMessage());
+        if (cleanupGovernor.isEnabled()) {
+            cleanupGovernor.onFailure();
+        }
         if (isTimeNotExpired(startTime)) {
             sleep(failureCount);
         }
@@ -73,8 +150,8 @@ public class DatabaseScheduleServiceImpl implements DatabaseScheduleService {
     }
 
 
-    private int executeDeletionStep() {
-        int deletedCount = databaseDeleteService.performManagedBatch(batchSize);
+    private int executeDeletionStep(IntSupplier step) {
+        int deletedCount = step.getAsInt();
         if (deletedCount == 0) {
             log.info("Cleanup complete: No more records found.");
         }
@@ -86,14 +163,27 @@ public class DatabaseScheduleServiceImpl implements DatabaseScheduleService {
         return System.currentTimeMillis() - startTime <= maxDurationMillis;
     }
 
+    private void pause(int deletedRows, long latencyMillis) {
+        if (cleanupGovernor.isEnabled()) {
+            sleepMillis(cleanupGovernor.onSuccess(deletedRows, latencyMillis));
+        } else {
+            sleep(0);
+        }
+    }
+
     private void sleep(int failureCount) {
         long delay = INITIAL_BACKOFF * (1L << failureCount);
-        delay = Math.min(delay, MAX_BACKOFF);
+        sleepMillis(Math.min(delay, MAX_BACKOFF));
+    }
 
+    private void sleepMillis(long delay) {
+        if (delay <= 0) {
+            return;
+        }
         try {
             Thread.sleep(delay);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,13 @@
+package com.java.test.junior.service.database;
+
+import com.java.test.junior.model.InteractionKey;
+
+import java.util.List;
+
+/**
+ * Records failed hard-delete attempts in their own transaction, so the increment survives the rollback of the
+ * batch that failed.
+ */
+public interface DeleteAttemptRecorder {
+    void recordFailedKeys(List<InteractionKey> keys, String reason);
+}
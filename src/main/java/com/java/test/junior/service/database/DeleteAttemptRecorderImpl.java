@@ -0,0 +1,23 @@
+package com.java.test.junior.service.database;
+
+import com.java.test.junior.model.InteractionKey;
+import com.java.test.junior.service.interaction.InteractionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class DeleteAttemptRecorderImpl implements DeleteAttemptRecorder {
+
+    private final InteractionService interactionService;
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordFailedKeys(List<InteractionKey> keys, String reason) {
+        interactionService.incrementDeleteAttempts(keys, reason);
+    }
+}
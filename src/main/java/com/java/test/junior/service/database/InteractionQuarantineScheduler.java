@@ -0,0 +1,5 @@
+package com.java.test.junior.service.database;
+
+public interface InteractionQuarantineScheduler {
+    void scheduledQuarantine();
+}
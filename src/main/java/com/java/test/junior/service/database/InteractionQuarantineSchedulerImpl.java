@@ -0,0 +1,22 @@
+package com.java.test.junior.service.database;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class InteractionQuarantineSchedulerImpl implements InteractionQuarantineScheduler {
+    private final InteractionQuarantineService quarantineService;
+
+    @Scheduled(cron = "${app.database.quarantine.cron}")
+    public void scheduledQuarantine() {
+        int quarantined = quarantineService.quarantineStuckRows();
+        int released = quarantineService.retryDue();
+        if (quarantined > 0 || released > 0) {
+            log.warn("Quarantined {} stuck interactions, released {} on retry", quarantined, released);
+        }
+    }
+}
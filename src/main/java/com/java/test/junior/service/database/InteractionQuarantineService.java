@@ -0,0 +1,25 @@
+package com.java.test.junior.service.database;
+
+import com.java.test.junior.model.QuarantineStatsDTO;
+
+/**
+ * Keeps the interactions the hard-delete job gave up on out of its scans and retries them on their own schedule.
+ */
+public interface InteractionQuarantineService {
+    /**
+     * Records every soft-deleted row that exhausted its delete attempts, together with its last failure reason.
+     *
+     * @return the number of newly quarantined rows
+     */
+    int quarantineStuckRows();
+
+    /**
+     * Retries the quarantined rows whose backoff has elapsed, one row per statement, so a single failing row
+     * cannot fail the others. A failed retry doubles the row's backoff.
+     *
+     * @return the number of rows that left the quarantine
+     */
+    int retryDue();
+
+    QuarantineStatsDTO getStats();
+}
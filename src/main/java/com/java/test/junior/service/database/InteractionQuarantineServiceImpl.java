@@ -0,0 +1,54 @@
+package com.java.test.junior.service.database;
+
+import com.java.test.junior.mapper.InteractionQuarantineMapper;
+import com.java.test.junior.model.QuarantineStatsDTO;
+import com.java.test.junior.model.QuarantinedInteraction;
+import com.java.test.junior.util.FailureReasons;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class InteractionQuarantineServiceImpl implements InteractionQuarantineService {
+    private final InteractionQuarantineMapper quarantineMapper;
+
+    @Value("${app.database.quarantine.batch-size}")
+    private int batchSize;
+    @Value("${app.database.quarantine.initial-delay-seconds}")
+    private long initialDelaySeconds;
+    @Value("${app.database.quarantine.base-backoff-seconds}")
+    private long baseBackoffSeconds;
+    @Value("${app.database.quarantine.max-backoff-seconds}")
+    private long maxBackoffSeconds;
+
+    @Override
+    public int quarantineStuckRows() {
+        return quarantineMapper.quarantineStuck(batchSize, initialDelaySeconds);
+    }
+
+    @Override
+    public int retryDue() {
+        int released = 0;
+        for (QuarantinedInteraction entry : quarantineMapper.findDue(batchSize)) {
+            try {
+                quarantineMapper.release(entry.getUserId(), entry.getProductId());
+                released++;
+            } catch (RuntimeException e) {
+                String reason = FailureReasons.of(e);
+                log.warn("Quarantined interaction ({}, {}) failed retry {}. Reason: {}",
+                        entry.getUserId(), entry.getProductId(), entry.getRetryAttempts() + 1, reason);
+                quarantineMapper.recordRetryFailure(entry.getUserId(), entry.getProductId(), reason, baseBackoffSeconds, maxBackoffSeconds);
+            }
+        }
+
+        return released;
+    }
+
+    @Override
+    public QuarantineStatsDTO getStats() {
+        return quarantineMapper.getStats();
+    }
+}
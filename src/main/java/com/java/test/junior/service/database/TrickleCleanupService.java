@@ -0,0 +1,15 @@
+package com.java.test.junior.service.database;
+
+import com.java.test.junior.model.CleanupMode;
+import com.java.test.junior.model.CleanupStatusDTO;
+
+public interface TrickleCleanupService {
+    CleanupMode getMode();
+
+    /**
+     * Switches between the nightly cron run and the continuous trickle loop, starting or stopping the loop.
+     */
+    CleanupStatusDTO switchMode(CleanupMode mode);
+
+    CleanupStatusDTO getStatus();
+}
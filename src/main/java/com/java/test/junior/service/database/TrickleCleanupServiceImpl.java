@@ -0,0 +1,154 @@
+package com.java.test.junior.service.database;
+
+import com.java.test.junior.model.CleanupMode;
+import com.java.test.junior.model.CleanupStatusDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deletes soft-deleted interactions in small batches all day on a low-priority daemon thread, sleeping after
+ * each batch long enough to stay under {@code max-rows-per-second}. Loops run on a single thread, so a loop
+ * started right after a stop waits for the previous one to finish its batch instead of running beside it.
+ */
+@Log4j2
+@Service
+public class TrickleCleanupServiceImpl implements TrickleCleanupService {
+    private static final long MAX_BACKOFF = 10000;
+    private static final long INITIAL_BACKOFF = 500;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10000;
+
+    private final DatabaseDeleteService databaseDeleteService;
+    private final int batchSize;
+    private final int maxRowsPerSecond;
+    private final long idleMillis;
+    private final AtomicLong deleted = new AtomicLong();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "interaction-cleanup-trickle");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
+    private volatile CleanupMode mode;
+    private Future<?> worker;
+    private AtomicBoolean stopRequested;
+
+    public TrickleCleanupServiceImpl(DatabaseDeleteService databaseDeleteService,
+                                     @Value("${app.database.cleanup-mode}") CleanupMode mode,
+                                     @Value("${app.database.trickle.batch-size}") int batchSize,
+                                     @Value("${app.database.trickle.max-rows-per-second}") int maxRowsPerSecond,
+                                     @Value("${app.database.trickle.idle-millis}") long idleMillis) {
+        if (batchSize <= 0 || maxRowsPerSecond <= 0) {
+            throw new IllegalStateException("Trickle batch size and max rows per second must be positive");
+        }
+        this.databaseDeleteService = databaseDeleteService;
+        this.mode = mode;
+        this.batchSize = batchSize;
+        this.maxRowsPerSecond = maxRowsPerSecond;
+        this.idleMillis = idleMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        if (mode == CleanupMode.TRICKLE) {
+            startWorker();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopWorker();
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public CleanupMode getMode() {
+        return mode;
+    }
+
+    @Override
+    public synchronized CleanupStatusDTO switchMode(CleanupMode newMode) {
+        if (newMode == CleanupMode.TRICKLE) {
+            startWorker();
+        } else {
+            stopWorker();
+        }
+        mode = newMode;
+        log.info("Cleanup mode switched to {}", newMode);
+
+        return getStatus();
+    }
+
+    @Override
+    public CleanupStatusDTO getStatus() {
+        return new CleanupStatusDTO(mode, batchSize, maxRowsPerSecond, deleted.get());
+    }
+
+    private synchronized void startWorker() {
+        if (worker != null) {
+            return;
+        }
+        AtomicBoolean stop = new AtomicBoolean();
+        stopRequested = stop;
+        worker = executor.submit(() -> runLoop(stop));
+    }
+
+    /**
+     * The flag stops the loop even if the interrupt is swallowed by the JDBC call it is in.
+     */
+    private synchronized void stopWorker() {
+        if (worker == null) {
+            return;
+        }
+        stopRequested.set(true);
+        worker.cancel(true);
+        worker = null;
+    }
+
+    private void runLoop(AtomicBoolean stop) {
+        int failureCount = 0;
+        while (!stop.get() && !Thread.currentThread().isInterrupted()) {
+            try {
+                long started = System.currentTimeMillis();
+                int rows = databaseDeleteService.performManagedBatch(batchSize);
+                deleted.addAndGet(rows);
+                failureCount = 0;
+                sleep(rows == 0 ? idleMillis : throttleMillis(rows, System.currentTimeMillis() - started));
+            } catch (Exception e) {
+                log.error("Trickle batch failed. Reason: {}", e.getMessage());
+                sleep(Math.min(INITIAL_BACKOFF * (1L << Math.min(++failureCount, 10)), MAX_BACKOFF));
+            }
+        }
+    }
+
+    private long throttleMillis(int rows, long elapsedMillis) {
+        return rows * 1000L / maxRowsPerSecond - elapsedMillis;
+    }
+
+    private void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.java.test.junior.service.interaction;
+
+public interface InteractionCountReconciler {
+    void scheduledReconcile();
+}
@@ -0,0 +1,21 @@
+package com.java.test.junior.service.interaction;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class InteractionCountReconcilerImpl implements InteractionCountReconciler {
+    private final InteractionService interactionService;
+
+    @Scheduled(cron = "${app.interaction.reconcile-cron}")
+    public void scheduledReconcile() {
+        int repaired = interactionService.reconcileCounts();
+        if (repaired > 0) {
+            log.warn("Reconciled interaction counters for {} products", repaired);
+        }
+    }
+}
@@ -1,23 +1,54 @@
 package com.java.test.junior.service.interaction;
 
+import com.java.test.junior.model.InteractionCountsDTO;
 import com.java.test.junior.model.InteractionKey;
+import com.java.test.junior.model.PendingInteraction;
+import com.java.test.junior.model.ProductInteractionDTO;
 
 import java.util.List;
 
 public interface InteractionService {
     List<InteractionKey> getInteractionsToDelete(int batchSize);
 
-    int deleteInteractions(List<InteractionKey> keys);
-
-    void incrementDeleteAttempts(List<InteractionKey> keys);
-
-    int getLikeCount(Long productId);
+    /**
+     * Same as {@link #getInteractionsToDelete(int)}, restricted to the rows whose {@code product_id} hashes
+     * to {@code partition} out of {@code partitions}.
+     */
+    List<InteractionKey> getInteractionsToDelete(int batchSize, int partition, int partitions);
 
-    int getDislikeCount(Long productId);
-
-    void upsertInteraction(Long userId, Long productId, boolean isLike);
-
-    void softDeleteInteraction(Long userId, Long productId);
+    int deleteInteractions(List<InteractionKey> keys);
 
-    Boolean getActiveInteraction(Long userId, Long productId);
+    void incrementDeleteAttempts(List<InteractionKey> keys, String reason);
+
+    /**
+     * Claims and deletes up to {@code batchSize} eligible rows of the partition in a single statement.
+     *
+     * @return the number of deleted rows
+     */
+    int deleteEligibleInteractions(int batchSize, int partition, int partitions);
+
+    InteractionCountsDTO toggleInteraction(Long userId, Long productId, boolean isLike);
+
+    /**
+     * Returns the committed like and dislike counts of a product, without the caller's state.
+     */
+    InteractionCountsDTO getCounts(Long productId);
+
+    /**
+     * Returns the counts of every existing product in {@code productIds}, in request order, together with
+     * {@code userId}'s state when a user is given.
+     */
+    List<ProductInteractionDTO> getProductInteractions(Long userId, List<Long> productIds);
+
+    /**
+     * Writes a batch of coalesced interactions, at most one per user and product, and updates the counters.
+     */
+    void applyInteractions(List<PendingInteraction> interactions);
+
+    /**
+     * Repairs drift between {@code product_interaction_counts} and the active interactions.
+     *
+     * @return the number of products whose counters were corrected
+     */
+    int reconcileCounts();
 }
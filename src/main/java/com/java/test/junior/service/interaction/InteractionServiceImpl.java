@@ -1,46 +1,88 @@
 package com.java.test.junior.service.interaction;
 
 import com.java.test.junior.mapper.InteractionMapper;
+import com.java.test.junior.model.InteractionCountsDTO;
 import com.java.test.junior.model.InteractionKey;
+import com.java.test.junior.model.PendingInteraction;
+import com.java.test.junior.model.ProductInteractionDTO;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+@Log4j2
 @Service
 @RequiredArgsConstructor
 public class InteractionServiceImpl implements InteractionService {
+    private static final long RECONCILE_LOCK_KEY = 0x636f756e7400L;
+
     private final InteractionMapper interactionMapper;
 
+    @Value("${app.interaction.counter-shards}")
+    private int counterShards;
+
+    @Value("${app.database.retention-seconds}")
+    private long retentionSeconds;
+
     public List<InteractionKey> getInteractionsToDelete(int batchSize) {
-        return interactionMapper.fetchKeysToDelete(batchSize);
+        return interactionMapper.fetchKeysToDelete(batchSize, 0, 1, retentionSeconds);
+    }
+
+    public List<InteractionKey> getInteractionsToDelete(int batchSize, int partition, int partitions) {
+        return interactionMapper.fetchKeysToDelete(batchSize, partition, partitions, retentionSeconds);
     }
 
     public int deleteInteractions(List<InteractionKey> keys) {
         return interactionMapper.deleteByKeys(keys);
     }
 
-    public void incrementDeleteAttempts(List<InteractionKey> keys) {
-        interactionMapper.incrementDeleteAttempts(keys);
+    public void incrementDeleteAttempts(List<InteractionKey> keys, String reason) {
+        interactionMapper.incrementDeleteAttempts(keys, reason);
     }
 
-    public int getLikeCount(Long productId) {
-        return interactionMapper.getLikeCount(productId);
+    public int deleteEligibleInteractions(int batchSize, int partition, int partitions) {
+        return interactionMapper.deleteEligible(batchSize, partition, partitions, retentionSeconds);
     }
 
-    public int getDislikeCount(Long productId) {
-        return interactionMapper.getDislikeCount(productId);
+    public InteractionCountsDTO toggleInteraction(Long userId, Long productId, boolean isLike) {
+        return interactionMapper.toggleInteraction(userId, productId, isLike, shardOf(userId));
     }
 
-    public void upsertInteraction(Long userId, Long productId, boolean isLike) {
-        interactionMapper.upsertInteraction(userId, productId, isLike);
+    public InteractionCountsDTO getCounts(Long productId) {
+        return interactionMapper.getCounts(productId);
     }
 
-    public void softDeleteInteraction(Long userId, Long productId) {
-        interactionMapper.softDeleteInteraction(userId, productId);
+    public List<ProductInteractionDTO> getProductInteractions(Long userId, List<Long> productIds) {
+        return interactionMapper.getProductInteractions(userId, productIds.toArray(Long[]::new));
     }
 
-    public Boolean getActiveInteraction(Long userId, Long productId) {
-        return interactionMapper.getActiveInteraction(userId, productId);
+    @Transactional
+    public void applyInteractions(List<PendingInteraction> interactions) {
+        if (interactions.isEmpty()) {
+            return;
+        }
+        interactions.forEach(interaction -> interaction.setShard(shardOf(interaction.getUserId())));
+        interactionMapper.applyInteractions(interactions);
+    }
+
+    private int shardOf(Long userId) {
+        return Math.floorMod(userId, counterShards);
+    }
+
+    /**
+     * The correction is added to the counters, so two overlapping runs would apply it twice; a run that finds
+     * another one in progress does nothing.
+     */
+    @Transactional
+    public int reconcileCounts() {
+        if (!interactionMapper.tryAdvisoryXactLock(RECONCILE_LOCK_KEY)) {
+            log.info("Skipping counter reconciliation, another run is in progress");
+            return 0;
+        }
+
+        return interactionMapper.reconcileCounts();
     }
 }
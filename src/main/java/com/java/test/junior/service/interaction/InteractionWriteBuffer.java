@@ -0,0 +1,22 @@
+package com.java.test.junior.service.interaction;
+
+import com.java.test.junior.model.InteractionState;
+
+public interface InteractionWriteBuffer {
+    boolean isEnabled();
+
+    /**
+     * Records a like/dislike toggle to be written on the next flush, coalescing it with any toggle still pending
+     * for the same user and product.
+     *
+     * @return the caller's resulting state, or {@link InteractionState#PENDING} while it depends on the stored row
+     */
+    InteractionState record(Long userId, Long productId, boolean isLike);
+
+    /**
+     * Writes every pending interaction.
+     */
+    void flushAll();
+
+    int getPendingCount();
+}
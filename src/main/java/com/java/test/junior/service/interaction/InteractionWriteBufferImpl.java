@@ -0,0 +1,245 @@
+package com.java.test.junior.service.interaction;
+
+import com.java.test.junior.exception.InteractionBufferFullException;
+import com.java.test.junior.model.InteractionKey;
+import com.java.test.junior.model.InteractionState;
+import com.java.test.junior.model.PendingInteraction;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Log4j2
+@Service
+public class InteractionWriteBufferImpl implements InteractionWriteBuffer {
+    private final InteractionService interactionService;
+    private final boolean enabled;
+    private final long flushIntervalMillis;
+    private final int batchSize;
+    private final int capacity;
+
+    private final Map<InteractionKey, PendingInteraction> pending = new ConcurrentHashMap<>();
+    private final Semaphore slots;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private ScheduledExecutorService flusher;
+
+    public InteractionWriteBufferImpl(InteractionService interactionService,
+                                      @Value("${app.interaction.write-behind.enabled}") boolean enabled,
+                                      @Value("${app.interaction.write-behind.flush-interval-millis}") long flushIntervalMillis,
+                                      @Value("${app.interaction.write-behind.batch-size}") int batchSize,
+                                      @Value("${app.interaction.write-behind.capacity}") int capacity) {
+        this.interactionService = interactionService;
+        this.enabled = enabled;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.batchSize = batchSize;
+        this.capacity = capacity;
+        this.slots = new Semaphore(capacity);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "interaction-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Interaction write-behind enabled: interval {}ms, batch {}, capacity {}", flushIntervalMillis, batchSize, capacity);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(flushIntervalMillis * 10, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushAll();
+        if (!pending.isEmpty()) {
+            log.error("Shutting down with {} interactions that could not be written", pending.size());
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public InteractionState record(Long userId, Long productId, boolean isLike) {
+        PendingInteraction toggle = new PendingInteraction(userId, productId, isLike, false, true, false, 0);
+        try {
+            return merge(toggle).getState();
+        } catch (InteractionBufferFullException e) {
+            flushBatch();
+            return merge(toggle).getState();
+        }
+    }
+
+    /**
+     * A new key takes one of the {@code capacity} slots inside {@code compute}, so concurrent callers cannot push
+     * the buffer past its capacity. The slot is given back once the entry has been written or dropped.
+     */
+    private PendingInteraction merge(PendingInteraction toggle) {
+        InteractionKey key = new InteractionKey(toggle.getUserId(), toggle.getProductId());
+
+        return pending.compute(key, (k, existing) -> {
+            if (existing == null && !slots.tryAcquire()) {
+                throw new InteractionBufferFullException("Too many pending interactions, try again later");
+            }
+            return compose(existing, toggle);
+        });
+    }
+
+    @Override
+    public void flushAll() {
+        while (!pending.isEmpty()) {
+            if (flushBatch() == 0) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private void flushQuietly() {
+        try {
+            flushAll();
+        } catch (Exception e) {
+            log.error("Interaction flush failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Takes up to {@code batchSize} entries out of the buffer and writes them. A batch rejected by a constraint is
+     * split in halves until the offending entries are isolated and dropped; any other failure puts the unwritten
+     * entries back in front of anything recorded for the same key while the batch was in flight.
+     *
+     * @return the number of interactions taken out of the buffer, written or dropped
+     */
+    private int flushBatch() {
+        flushLock.lock();
+        try {
+            Deque<List<PendingInteraction>> chunks = new ArrayDeque<>();
+            chunks.push(drain());
+            int resolved = 0;
+            while (!chunks.isEmpty()) {
+                List<PendingInteraction> chunk = chunks.pop();
+                try {
+                    interactionService.applyInteractions(chunk);
+                } catch (DataIntegrityViolationException e) {
+                    if (chunk.size() > 1) {
+                        chunks.push(chunk.subList(chunk.size() / 2, chunk.size()));
+                        chunks.push(chunk.subList(0, chunk.size() / 2));
+                        continue;
+                    }
+                    log.error("Dropping buffered interaction of user {} on product {}: {}",
+                            chunk.get(0).getUserId(), chunk.get(0).getProductId(), e.getMessage());
+                } catch (RuntimeException e) {
+                    chunks.push(chunk);
+                    int unwritten = requeueAll(chunks);
+                    log.error("Failed to write {} buffered interactions: {}", unwritten, e.getMessage());
+                    return resolved;
+                }
+                resolved += chunk.size();
+                slots.release(chunk.size());
+            }
+
+            return resolved;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private int requeueAll(Deque<List<PendingInteraction>> chunks) {
+        int requeued = 0;
+        for (List<PendingInteraction> chunk : chunks) {
+            chunk.forEach(this::requeue);
+            requeued += chunk.size();
+        }
+
+        return requeued;
+    }
+
+    private List<PendingInteraction> drain() {
+        List<PendingInteraction> batch = new ArrayList<>();
+        Iterator<InteractionKey> keys = pending.keySet().iterator();
+        while (keys.hasNext() && batch.size() < batchSize) {
+            PendingInteraction interaction = pending.remove(keys.next());
+            if (interaction != null) {
+                batch.add(interaction);
+            }
+        }
+
+        return batch;
+    }
+
+    /**
+     * The failed entry keeps the slot it held while drained; if a newer entry took a slot of its own meanwhile,
+     * the two are merged and one slot is given back.
+     */
+    private void requeue(PendingInteraction failed) {
+        InteractionKey key = new InteractionKey(failed.getUserId(), failed.getProductId());
+        pending.compute(key, (k, newer) -> {
+            if (newer == null) {
+                return failed;
+            }
+            slots.release();
+            return compose(failed, newer);
+        });
+    }
+
+    /**
+     * Combines {@code first} followed by {@code next} into a single operation. Toggles of the same choice combine
+     * into a repeated toggle and back, a toggle of the other choice ends in a known state, and a repeated toggle
+     * followed by one of the other choice always ends deleted.
+     */
+    private static PendingInteraction compose(PendingInteraction first, PendingInteraction next) {
+        if (first == null || !next.isToggle()) {
+            return next;
+        }
+        boolean like = next.isLike();
+        if (!first.isToggle()) {
+            boolean wasActiveChoice = !first.isDeleted() && first.isLike() == like;
+            return set(next, like, next.isRepeated() != wasActiveChoice);
+        }
+        if (first.isLike() != like) {
+            return set(next, like, next.isRepeated());
+        }
+
+        return toggle(next, first.isRepeated() == next.isRepeated());
+    }
+
+    private static PendingInteraction set(PendingInteraction source, boolean like, boolean deleted) {
+        return new PendingInteraction(source.getUserId(), source.getProductId(), like, deleted, false, false, 0);
+    }
+
+    private static PendingInteraction toggle(PendingInteraction source, boolean repeated) {
+        return new PendingInteraction(source.getUserId(), source.getProductId(), source.isLike(), false, true, repeated, 0);
+    }
+}
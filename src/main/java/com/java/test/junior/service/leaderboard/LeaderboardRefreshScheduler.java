@@ -0,0 +1,5 @@
+package com.java.test.junior.service.leaderboard;
+
+public interface LeaderboardRefreshScheduler {
+    void scheduledRefresh();
+}
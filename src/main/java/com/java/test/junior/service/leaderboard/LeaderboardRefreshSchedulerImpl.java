@@ -0,0 +1,16 @@
+package com.java.test.junior.service.leaderboard;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class LeaderboardRefreshSchedulerImpl implements LeaderboardRefreshScheduler {
+    private final LeaderboardService leaderboardService;
+
+    @Scheduled(cron = "${app.leaderboard.refresh-cron}")
+    public void scheduledRefresh() {
+        leaderboardService.refresh();
+    }
+}
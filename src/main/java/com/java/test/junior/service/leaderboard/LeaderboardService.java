@@ -0,0 +1,31 @@
+package com.java.test.junior.service.leaderboard;
+
+import com.java.test.junior.model.InteractionCountsDTO;
+import com.java.test.junior.model.InteractionState;
+import com.java.test.junior.model.LeaderboardEntryDTO;
+
+import java.util.List;
+
+public interface LeaderboardService {
+    /**
+     * Feeds the outcome of a like/dislike toggle into the in-memory leaderboards. {@code counts} must include the
+     * toggle, so this is only for interactions written synchronously.
+     */
+    void recordInteraction(Long productId, boolean isLike, InteractionCountsDTO counts);
+
+    /**
+     * Feeds a like/dislike into the trending board only. Used for buffered interactions, whose counts are not
+     * written yet; the top board picks them up on the next {@link #refresh()}.
+     */
+    void recordTrending(Long productId, boolean isLike, InteractionState state);
+
+    List<LeaderboardEntryDTO> getTopLiked(int limit);
+
+    List<LeaderboardEntryDTO> getTrending(int limit);
+
+    /**
+     * Recomputes the top board from the interaction counters, unless another node is doing it, and persists this
+     * node's trending window to {@code product_leaderboard}.
+     */
+    void refresh();
+}
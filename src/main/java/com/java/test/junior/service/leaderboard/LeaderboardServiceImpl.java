@@ -0,0 +1,178 @@
+package com.java.test.junior.service.leaderboard;
+
+import com.java.test.junior.exception.IllegalArgumentException;
+import com.java.test.junior.mapper.LeaderboardMapper;
+import com.java.test.junior.model.*;
+import com.java.test.junior.service.product.ProductCache;
+import com.java.test.junior.util.BoundedTopK;
+import com.java.test.junior.util.SlidingWindowCounter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves both boards from memory. The top board is recomputed from the counters by one node at a time; every
+ * node stores its own trending window under its node id, since each one only sees the likes it handled, and
+ * serves its live window merged with the windows the other nodes stored at their last refresh. A node started
+ * without a stable {@code app.node.id} gets a new id on every restart, so the rows of its previous run are
+ * merged like another node's until they age out of the window.
+ */
+@Log4j2
+@Service
+public class LeaderboardServiceImpl implements LeaderboardService {
+    private static final long REFRESH_LOCK_KEY = 0x746f7000L;
+    private static final String SHARED_BOARD = "";
+
+    private final LeaderboardMapper leaderboardMapper;
+    private final ProductCache productCache;
+    private final int size;
+    private final long trendingSnapshotMillis;
+    private final long trendingWindowSeconds;
+    private final String nodeId;
+    private final BoundedTopK topLiked;
+    private final SlidingWindowCounter trending;
+
+    private volatile List<ProductScore> otherNodesTrending = List.of();
+    private volatile List<ProductScore> trendingSnapshot = List.of();
+    private volatile long trendingSnapshotAt;
+
+    public LeaderboardServiceImpl(LeaderboardMapper leaderboardMapper,
+                                  ProductCache productCache,
+                                  @Value("${app.leaderboard.size}") int size,
+                                  @Value("${app.leaderboard.trending.bucket-seconds}") long bucketSeconds,
+                                  @Value("${app.leaderboard.trending.window-buckets}") int windowBuckets,
+                                  @Value("${app.leaderboard.trending.snapshot-millis}") long trendingSnapshotMillis,
+                                  @Value("${app.node.id}") String nodeId) {
+        this.leaderboardMapper = leaderboardMapper;
+        this.productCache = productCache;
+        this.size = size;
+        this.trendingSnapshotMillis = trendingSnapshotMillis;
+        this.trendingWindowSeconds = bucketSeconds * windowBuckets;
+        this.nodeId = nodeId.isBlank() ? ManagementFactory.getRuntimeMXBean().getName() : nodeId;
+        this.topLiked = new BoundedTopK(size * 2);
+        this.trending = new SlidingWindowCounter(bucketSeconds * 1000, windowBuckets);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        topLiked.replaceAll(leaderboardMapper.findBoard(LeaderboardType.TOP, SHARED_BOARD));
+        leaderboardMapper.findBoard(LeaderboardType.TRENDING, nodeId).forEach(score -> trending.add(score.getProductId(), score.getScore()));
+        otherNodesTrending = findOtherNodesTrending();
+    }
+
+    @Override
+    public void recordInteraction(Long productId, boolean isLike, InteractionCountsDTO counts) {
+        if (counts.getState() != InteractionState.PENDING) {
+            topLiked.offer(productId, counts.getLikeCount());
+        }
+        recordTrending(productId, isLike, counts.getState());
+    }
+
+    @Override
+    public void recordTrending(Long productId, boolean isLike, InteractionState state) {
+        if (state == InteractionState.LIKED) {
+            trending.add(productId, 1);
+        } else if (isLike && state == InteractionState.NONE) {
+            trending.add(productId, -1);
+        }
+    }
+
+    @Override
+    public List<LeaderboardEntryDTO> getTopLiked(int limit) {
+        validateLimit(limit);
+
+        return hydrate(topLiked.top(limit));
+    }
+
+    @Override
+    public List<LeaderboardEntryDTO> getTrending(int limit) {
+        validateLimit(limit);
+
+        return hydrate(trendingScores().stream().limit(limit).toList());
+    }
+
+    @Override
+    @Transactional
+    public void refresh() {
+        if (leaderboardMapper.tryAdvisoryXactLock(REFRESH_LOCK_KEY)) {
+            leaderboardMapper.clearBoard(LeaderboardType.TOP, SHARED_BOARD);
+            leaderboardMapper.insertTopLiked(size);
+        } else {
+            log.info("Top board is being refreshed by another node, reloading the stored one");
+        }
+        topLiked.replaceAll(leaderboardMapper.findBoard(LeaderboardType.TOP, SHARED_BOARD));
+
+        List<ProductScore> trendingScores = trending.top(size);
+        leaderboardMapper.clearBoard(LeaderboardType.TRENDING, nodeId);
+        if (!trendingScores.isEmpty()) {
+            leaderboardMapper.insertScores(LeaderboardType.TRENDING, nodeId, trendingScores);
+        }
+        leaderboardMapper.deleteStale(LeaderboardType.TRENDING, trendingWindowSeconds);
+        otherNodesTrending = findOtherNodesTrending();
+        trendingSnapshotAt = 0;
+        log.info("Refreshed leaderboards");
+    }
+
+    private List<ProductScore> findOtherNodesTrending() {
+        return leaderboardMapper.findOtherNodesBoard(LeaderboardType.TRENDING, nodeId, trendingWindowSeconds, size);
+    }
+
+    private List<ProductScore> trendingScores() {
+        long now = System.currentTimeMillis();
+        if (now - trendingSnapshotAt > trendingSnapshotMillis) {
+            trendingSnapshot = merge(trending.top(size), otherNodesTrending);
+            trendingSnapshotAt = now;
+        }
+
+        return trendingSnapshot;
+    }
+
+    private List<ProductScore> merge(List<ProductScore> local, List<ProductScore> otherNodes) {
+        if (otherNodes.isEmpty()) {
+            return local;
+        }
+        Map<Long, Long> totals = new HashMap<>();
+        local.forEach(score -> totals.merge(score.getProductId(), score.getScore(), Long::sum));
+        otherNodes.forEach(score -> totals.merge(score.getProductId(), score.getScore(), Long::sum));
+
+        return totals.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .map(entry -> new ProductScore(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(ProductScore::getScore).reversed().thenComparing(ProductScore::getProductId))
+                .limit(size)
+                .toList();
+    }
+
+    private void validateLimit(int limit) {
+        if (limit <= 0 || limit > size) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + size);
+        }
+    }
+
+    private List<LeaderboardEntryDTO> hydrate(List<ProductScore> scores) {
+        Map<Long, Product> products = productCache.findByIds(scores.stream().map(ProductScore::getProductId).toList());
+        List<LeaderboardEntryDTO> entries = new ArrayList<>();
+        for (ProductScore score : scores) {
+            Product product = products.get(score.getProductId());
+            if (product != null) {
+                entries.add(new LeaderboardEntryDTO(entries.size() + 1, score.getScore(), toResponse(product)));
+            }
+        }
+
+        return entries;
+    }
+
+    private ProductResponseDTO toResponse(Product product) {
+        return new ProductResponseDTO(product.getId(), product.getName(), product.getPrice(), product.getDescription(), product.getUserId(), product.getUsername(), product.getUpdatedAt(), product.getVersion(), null);
+    }
+}
@@ -0,0 +1,42 @@
+package com.java.test.junior.service.product;
+
+import com.java.test.junior.mapper.ProductMapper;
+import com.java.test.junior.model.ProductCount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the exact count at most once per TTL and serves the remembered value in between.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.product.count-strategy", havingValue = "cached")
+public class CachedProductCountStrategy implements ProductCountStrategy {
+    private final ProductMapper productMapper;
+
+    @Value("${app.product.count-cache-ttl-millis}")
+    private long ttlMillis;
+
+    private volatile long cachedTotal;
+    private volatile long expiresAt;
+
+    @Override
+    public ProductCount count() {
+        long now = System.currentTimeMillis();
+        if (now >= expiresAt) {
+            refresh(now);
+        }
+
+        return new ProductCount(cachedTotal, true);
+    }
+
+    private synchronized void refresh(long now) {
+        if (now < expiresAt) {
+            return;
+        }
+        cachedTotal = productMapper.countProducts();
+        expiresAt = now + ttlMillis;
+    }
+}
@@ -0,0 +1,23 @@
+package com.java.test.junior.service.product;
+
+import com.java.test.junior.mapper.ProductMapper;
+import com.java.test.junior.model.ProductCount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads the row counter maintained by the statement-level triggers on {@code product},
+ * which also covers rows inserted through the COPY bulk load.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.product.count-strategy", havingValue = "counter")
+public class CounterProductCountStrategy implements ProductCountStrategy {
+    private final ProductMapper productMapper;
+
+    @Override
+    public ProductCount count() {
+        return new ProductCount(productMapper.countProductsFromCounter(), false);
+    }
+}
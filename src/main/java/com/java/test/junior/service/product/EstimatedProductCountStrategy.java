@@ -0,0 +1,28 @@
+package com.java.test.junior.service.product;
+
+import com.java.test.junior.mapper.ProductMapper;
+import com.java.test.junior.model.ProductCount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Uses the planner statistics in {@code pg_class.reltuples}. Falls back to an exact count
+ * while the table has never been vacuumed or analyzed.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.product.count-strategy", havingValue = "estimate")
+public class EstimatedProductCountStrategy implements ProductCountStrategy {
+    private final ProductMapper productMapper;
+
+    @Override
+    public ProductCount count() {
+        Long estimate = productMapper.estimateProductCount();
+        if (estimate == null || estimate < 0) {
+            return new ProductCount(productMapper.countProducts(), false);
+        }
+
+        return new ProductCount(estimate, true);
+    }
+}
@@ -0,0 +1,19 @@
+package com.java.test.junior.service.product;
+
+import com.java.test.junior.mapper.ProductMapper;
+import com.java.test.junior.model.ProductCount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.product.count-strategy", havingValue = "exact", matchIfMissing = true)
+public class ExactProductCountStrategy implements ProductCountStrategy {
+    private final ProductMapper productMapper;
+
+    @Override
+    public ProductCount count() {
+        return new ProductCount(productMapper.countProducts(), false);
+    }
+}
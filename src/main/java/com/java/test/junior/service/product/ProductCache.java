@@ -0,0 +1,26 @@
+package com.java.test.junior.service.product;
+
+import com.java.test.junior.model.CacheStats;
+import com.java.test.junior.model.Product;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Read-through cache in front of {@link com.java.test.junior.mapper.ProductMapper#findById(Long)}.
+ * Cached instances are shared, callers must not modify them.
+ */
+public interface ProductCache {
+    Product findById(Long id);
+
+    /**
+     * @return the products found, keyed by id; ids missing from the cache are loaded with a single query
+     */
+    Map<Long, Product> findByIds(Collection<Long> ids);
+
+    void invalidate(Long id);
+
+    void invalidateAll();
+
+    CacheStats getStats();
+}
@@ -0,0 +1,69 @@
+package com.java.test.junior.service.product;
+
+import com.java.test.junior.mapper.ProductMapper;
+import com.java.test.junior.model.CacheStats;
+import com.java.test.junior.model.Product;
+import com.java.test.junior.util.BoundedTtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+@Service
+public class ProductCacheImpl implements ProductCache {
+    private final ProductMapper productMapper;
+    private final BoundedTtlCache<Long, Product> productsById;
+
+    public ProductCacheImpl(ProductMapper productMapper,
+                            @Value("${app.cache.product.max-size}") int maxSize,
+                            @Value("${app.cache.product.ttl-millis}") long ttlMillis) {
+        this.productMapper = productMapper;
+        this.productsById = new BoundedTtlCache<>("productsById", maxSize, ttlMillis);
+    }
+
+    @Override
+    public Product findById(Long id) {
+        return productsById.get(id, productMapper::findById);
+    }
+
+    @Override
+    public Map<Long, Product> findByIds(Collection<Long> ids) {
+        Map<Long, Product> products = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            Product cached = productsById.getIfPresent(id);
+            if (cached != null) {
+                products.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            loadMissing(missing, products);
+        }
+
+        return products;
+    }
+
+    private void loadMissing(List<Long> missing, Map<Long, Product> products) {
+        for (Product product : productMapper.findByIds(missing.toArray(Long[]::new))) {
+            productsById.put(product.getId(), product);
+            products.put(product.getId(), product);
+        }
+    }
+
+    @Override
+    public void invalidate(Long id) {
+        productsById.invalidate(id);
+    }
+
+    @Override
+    public void invalidateAll() {
+        productsById.invalidateAll();
+    }
+
+    @Override
+    public CacheStats getStats() {
+        return productsById.stats();
+    }
+}
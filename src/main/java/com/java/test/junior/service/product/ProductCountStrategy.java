@@ -0,0 +1,11 @@
+package com.java.test.junior.service.product;
+
+import com.java.test.junior.model.ProductCount;
+
+/**
+ * Supplies the total number of products shown in paginated listings.
+ * The active implementation is selected with {@code app.product.count-strategy}.
+ */
+public interface ProductCountStrategy {
+    ProductCount count();
+}
@@ -4,10 +4,17 @@
 
 package com.java.test.junior.service.product;
 
+import com.java.test.junior.model.CursorPageResponse;
+import com.java.test.junior.model.ExportFormat;
+import com.java.test.junior.model.InteractionCountsDTO;
 import com.java.test.junior.model.PageResponse;
 import com.java.test.junior.model.ProductDTO;
+import com.java.test.junior.model.ProductInteractionDTO;
+import com.java.test.junior.model.ProductLookupDTO;
 import com.java.test.junior.model.ProductResponseDTO;
+import com.java.test.junior.model.SearchMode;
 
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -24,15 +31,62 @@ public interface ProductService {
 
     ProductResponseDTO getProductById(Long id);
 
-    ProductResponseDTO modifyProductById(Long id, ProductDTO productDTO, String username);
+    /**
+     * @param ids product ids to look up, duplicates are ignored
+     * @return one entry per distinct id in request order, flagged as not found when the product does not exist
+     */
+    List<ProductLookupDTO> getProductsByIds(List<Long> ids);
 
-    void deleteProductById(Long id, String username);
+    ProductResponseDTO modifyProductById(Long id, ProductDTO productDTO);
 
-    PageResponse<ProductResponseDTO> getPaginatedProducts(int page, int size);
+    void deleteProductById(Long id);
 
-    List<ProductResponseDTO> getProductByName(String name);
+    /**
+     * @param fields  comma-separated product fields to load, {@code summary}, or blank for every field
+     * @param include {@code interactions} to embed each product's counts and the caller's state, or blank
+     */
+    PageResponse<ProductResponseDTO> getPaginatedProducts(int page, int size, String fields, String include);
+
+    /**
+     * ETag of the page {@link #getPaginatedProducts} would return, derived from the ids and update times of its
+     * rows and, when included, their interactions, without loading the products themselves.
+     */
+    String getPaginatedProductsETag(int page, int size, String fields, String include);
+
+    /**
+     * @param ids product ids to look up, duplicates are ignored
+     * @return counts for every existing product in request order; the caller's state only when authenticated
+     */
+    List<ProductInteractionDTO> getProductInteractions(List<Long> ids);
+
+    /**
+     * @param cursor opaque token returned as {@code next} by the previous call, blank for the first page
+     * @param size   maximum number of products to return
+     * @param fields comma-separated product fields to load, {@code summary}, or blank for every field
+     * @return the products following the cursor, ordered by creation time
+     */
+    CursorPageResponse<ProductResponseDTO> getProductsByCursor(String cursor, int size, String fields);
+
+    /**
+     * @param name    text to search for
+     * @param mode    substring match on the name, trigram similarity, or ranked full-text over name and description
+     * @param afterId id of the last product of the previous page; only used by {@link SearchMode#SUBSTRING}
+     * @param limit   maximum number of products to return
+     * @param fields  comma-separated product fields to load, {@code summary}, or blank for every field
+     * @return the matching products
+     */
+    List<ProductResponseDTO> getProductByName(String name, SearchMode mode, Long afterId, int limit, String fields);
 
     void loadProductsFromAddress(String fileAddress);
 
-    int handleInteraction(Long productId, boolean isLike);
+    /**
+     * Streams every product to {@code outputStream} through a database cursor, so memory use does not grow with the catalog.
+     */
+    void exportProducts(ExportFormat format, OutputStream outputStream);
+
+    /**
+     * Toggles the caller's like or dislike. With write-behind enabled the counts are the last flushed ones
+     * and the state may be {@code PENDING}.
+     */
+    InteractionCountsDTO handleInteraction(Long productId, boolean isLike);
 }
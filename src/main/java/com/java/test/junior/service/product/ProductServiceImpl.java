@@ -4,16 +4,27 @@
 
 package com.java.test.junior.service.product;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.java.test.junior.exception.*;
 import com.java.test.junior.exception.IllegalArgumentException;
 import com.java.test.junior.mapper.ProductMapper;
 import com.java.test.junior.model.*;
 import com.java.test.junior.service.interaction.InteractionService;
-import com.java.test.junior.service.user.UserService;
+import com.java.test.junior.service.interaction.InteractionWriteBuffer;
+import com.java.test.junior.service.leaderboard.LeaderboardService;
 import com.java.test.junior.util.AdminIdInjectorReader;
+import com.java.test.junior.util.ProductCursorCodec;
+import com.java.test.junior.util.ProductETags;
+import com.java.test.junior.util.ProductProjection;
+import com.opencsv.CSVWriter;
 import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,7 +36,10 @@ import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * @author dumitru.beselea
@@ -35,21 +49,35 @@ import java.util.Objects;
 @Service
 @RequiredArgsConstructor
 public class ProductServiceImpl implements ProductService {
+    private static final String INCLUDE_INTERACTIONS = "interactions";
+    private static final String[] EXPORT_CSV_HEADER = {"id", "name", "price", "description", "user_id", "username", "updated_at"};
+    private static final String FOREIGN_KEY_VIOLATION = "23503";
+    private static final String PRODUCT_FOREIGN_KEY = "fk_product";
 
     private final ProductMapper productMapper;
     private final DataSource dataSource;
-    private final UserService userService;
     private final InteractionService interactionService;
+    private final InteractionWriteBuffer interactionWriteBuffer;
+    private final LeaderboardService leaderboardService;
+    private final ProductCountStrategy productCountStrategy;
+    private final ProductCache productCache;
+    private final ObjectMapper objectMapper;
 
     @Value("${app.admin.default.role}")
     private String adminRole;
+    @Value("${app.product.search.max-limit}")
+    private int maxSearchLimit;
+    @Value("${app.product.batch.max-ids}")
+    private int maxBatchIds;
 
 
     @Override
     public ProductResponseDTO createProduct(ProductDTO productDTO) {
-        Long userId = getAuthenticatedUserId();
-        Product product = mapToProduct(productDTO, userId);
+        AuthenticatedUser user = getAuthenticatedUser();
+        Product product = mapToProduct(productDTO, user.getId());
         productMapper.insert(product);
+        productCache.invalidate(product.getId());
+        product.setUsername(user.getUsername());
 
         return mapToResponseDTO(product);
     }
@@ -72,6 +100,30 @@ public class ProductServiceImpl implements ProductService {
         return mapToResponseDTO(product);
     }
 
+    @Override
+    public List<ProductLookupDTO> getProductsByIds(List<Long> ids) {
+        validateProductIds(ids);
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        Map<Long, Product> products = productCache.findByIds(distinctIds);
+
+        return distinctIds.stream().map(id -> toLookup(id, products.get(id))).toList();
+    }
+
+    private void validateProductIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > maxBatchIds) {
+            throw new IllegalArgumentException("Between 1 and " + maxBatchIds + " product ids must be requested");
+        }
+        ids.forEach(this::validateProductId);
+    }
+
+    private ProductLookupDTO toLookup(Long id, Product product) {
+        if (product == null) {
+            return new ProductLookupDTO(id, false, null);
+        }
+
+        return new ProductLookupDTO(id, true, mapToResponseDTO(product));
+    }
+
     private void validateProductId(Long id) {
         if (id == null || id <= 0) {
             throw new IllegalArgumentException("Product id must be positive");
@@ -79,7 +131,10 @@ public class ProductServiceImpl implements ProductService {
     }
 
     private Product getProductOrThrow(Long id) {
-        Product product = productMapper.findById(id);
+        return requireProduct(productCache.findById(id));
+    }
+
+    private Product requireProduct(Product product) {
         if (product == null) {
             throw new ProductNotFoundException("Product not found");
         }
@@ -87,27 +142,40 @@ public class ProductServiceImpl implements ProductService {
         return product;
     }
 
+    private RuntimeException explainRejectedWrite(Long id, AuthenticatedUser currentUser, Long expectedVersion) {
+        Product product = productMapper.findById(id);
+        if (product == null) {
+            return new ProductNotFoundException("Product not found");
+        }
+        if (!Objects.equals(product.getUserId(), currentUser.getId()) && !isAdmin(currentUser)) {
+            return new UserAccessDeniedException("You do not have permission to modify this product");
+        }
 
-    private void authorizeUser(Product product, String username) {
-        UserResponseDTO currentUser = userService.findByUsername(username);
-        boolean isOwner = Objects.equals(product.getUserId(), currentUser.getId());
-        boolean isAdmin = adminRole.equals(currentUser.getRole());
-
-        if (!isOwner && !isAdmin) {
-            throw new UserAccessDeniedException("You do not have permission to modify this product");
+        if (expectedVersion == null) {
+            return new ProductVersionConflictException("Product was modified concurrently");
         }
+
+        return new ProductVersionConflictException("Product version mismatch: expected " + expectedVersion + " but found " + product.getVersion());
+    }
+
+    private boolean isAdmin(AuthenticatedUser user) {
+        return adminRole.equals(user.getRole());
     }
 
     @Override
-    public ProductResponseDTO modifyProductById(Long id, ProductDTO productDTO, String username) {
+    public ProductResponseDTO modifyProductById(Long id, ProductDTO productDTO) {
         validateProductId(id);
-        Product productFromDb = getProductOrThrow(id);
-        authorizeUser(productFromDb, username);
+        AuthenticatedUser currentUser = getAuthenticatedUser();
 
-        updateProductFields(productFromDb, productDTO);
-        productMapper.updateProduct(id, productFromDb);
+        Product changes = new Product();
+        updateProductFields(changes, productDTO);
+        Product updated = productMapper.updateProductAuthorized(id, changes, currentUser.getId(), isAdmin(currentUser), productDTO.getVersion());
+        if (updated == null) {
+            throw explainRejectedWrite(id, currentUser, productDTO.getVersion());
+        }
+        productCache.invalidate(id);
 
-        return mapToResponseDTO(productFromDb);
+        return mapToResponseDTO(updated);
     }
 
     private void updateProductFields(Product product, ProductDTO dto) {
@@ -117,23 +185,82 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    public void deleteProductById(Long id, String username) {
+    public void deleteProductById(Long id) {
         validateProductId(id);
-        Product productFromDb = getProductOrThrow(id);
-        authorizeUser(productFromDb, username);
+        AuthenticatedUser currentUser = getAuthenticatedUser();
 
-        productMapper.deleteProduct(id);
+        int deleted = productMapper.deleteProductAuthorized(id, currentUser.getId(), isAdmin(currentUser));
+        if (deleted == 0) {
+            throw explainRejectedWrite(id, currentUser, null);
+        }
+        productCache.invalidate(id);
     }
 
     @Override
-    public PageResponse<ProductResponseDTO> getPaginatedProducts(int page, int size) {
+    public PageResponse<ProductResponseDTO> getPaginatedProducts(int page, int size, String fields, String include) {
         validatePage(page, size);
-        long total = productMapper.countProducts();
-        int totalPages = calculateTotalPages(total, size);
-        validatePageLimit(page, total, totalPages);
-        List<ProductResponseDTO> content = fetchPaginatedProducts(page, size);
+        boolean includeInteractions = parseInclude(include);
+        ProductCount count = countPages(page, size);
+        long total = count.getTotal();
+        List<ProductResponseDTO> content = fetchPaginatedProducts(page, size, ProductProjection.columns(fields));
+        if (includeInteractions) {
+            embedInteractions(content);
+        }
+
+        PageResponse<ProductResponseDTO> response = new PageResponse<>(content, page, size, total, calculateTotalPages(total, size));
+        response.setApproximate(count.isApproximate());
 
-        return new PageResponse<>(content, page, size, total, totalPages);
+        return response;
+    }
+
+    @Override
+    public String getPaginatedProductsETag(int page, int size, String fields, String include) {
+        validatePage(page, size);
+        boolean includeInteractions = parseInclude(include);
+        long total = countPages(page, size).getTotal();
+        List<Product> versions = productMapper.getPaginatedProductVersions((page - 1) * size, size);
+        List<ProductInteractionDTO> interactions = includeInteractions && !versions.isEmpty()
+                ? interactionService.getProductInteractions(findAuthenticatedUserId(), versions.stream().map(Product::getId).toList())
+                : List.of();
+
+        return ProductETags.forVersions(versions, total, page, size, fields, interactions);
+    }
+
+    private ProductCount countPages(int page, int size) {
+        ProductCount count = productCountStrategy.count();
+        if (!count.isApproximate()) {
+            validatePageLimit(page, count.getTotal(), calculateTotalPages(count.getTotal(), size));
+        }
+
+        return count;
+    }
+
+    private boolean parseInclude(String include) {
+        if (include == null || include.isBlank()) {
+            return false;
+        }
+        if (INCLUDE_INTERACTIONS.equalsIgnoreCase(include.trim())) {
+            return true;
+        }
+        throw new IllegalArgumentException("Unknown include: " + include);
+    }
+
+    private void embedInteractions(List<ProductResponseDTO> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+        List<Long> ids = products.stream().map(ProductResponseDTO::getId).toList();
+        Map<Long, ProductInteractionDTO> interactions = interactionService.getProductInteractions(findAuthenticatedUserId(), ids)
+                .stream()
+                .collect(Collectors.toMap(ProductInteractionDTO::getProductId, Function.identity()));
+        products.forEach(product -> product.setInteractions(interactions.get(product.getId())));
+    }
+
+    @Override
+    public List<ProductInteractionDTO> getProductInteractions(List<Long> ids) {
+        validateProductIds(ids);
+
+        return interactionService.getProductInteractions(findAuthenticatedUserId(), ids.stream().distinct().toList());
     }
 
     private void validatePage(int page, int size) {
@@ -151,58 +278,128 @@ public class ProductServiceImpl implements ProductService {
             throw new PageExceedsLimit("Page " + page + " does not exist");
     }
 
-    private List<ProductResponseDTO> fetchPaginatedProducts(int page, int size) {
+    private List<ProductResponseDTO> fetchPaginatedProducts(int page, int size, List<String> columns) {
         int offset = (page - 1) * size;
 
-        return productMapper.getPaginatedProducts(offset, size)
+        return productMapper.getPaginatedProducts(offset, size, columns)
                 .stream()
-                .map(this::mapToResponseDTO)
+                .map(responseMapper(columns))
                 .toList();
     }
 
     @Override
-    public List<ProductResponseDTO> getProductByName(String name) {
-        List<Product> product = productMapper.getProductByName(name);
+    public CursorPageResponse<ProductResponseDTO> getProductsByCursor(String cursor, int size, String fields) {
+        validatePageSize(size);
+        ProductCursor position = ProductCursorCodec.decode(cursor);
+        List<String> columns = ProductProjection.columns(fields);
+        List<Product> products = fetchProductsAfter(position, size + 1, columns);
+        boolean hasNext = products.size() > size;
+        List<Product> page = hasNext ? products.subList(0, size) : products;
+
+        return new CursorPageResponse<>(page.stream().map(responseMapper(columns)).toList(), hasNext ? encodeCursor(page.get(page.size() - 1)) : null);
+    }
+
+    private void validatePageSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+    }
+
+    private List<Product> fetchProductsAfter(ProductCursor position, int limit, List<String> columns) {
+        if (position == null) {
+            return productMapper.getProductsAfterCursor(null, null, limit, columns);
+        }
+
+        return productMapper.getProductsAfterCursor(position.getCreatedAt(), position.getId(), limit, columns);
+    }
+
+    private String encodeCursor(Product product) {
+        return ProductCursorCodec.encode(new ProductCursor(product.getCreatedAt(), product.getId()));
+    }
+
+    @Override
+    public List<ProductResponseDTO> getProductByName(String name, SearchMode mode, Long afterId, int limit, String fields) {
+        validateSearchLimit(limit);
+        List<String> columns = ProductProjection.columns(fields);
+        List<Product> product = searchProducts(name, mode, afterId, limit, columns);
+
+        return product.stream().map(responseMapper(columns)).toList();
+    }
+
+    private void validateSearchLimit(int limit) {
+        if (limit <= 0 || limit > maxSearchLimit) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxSearchLimit);
+        }
+    }
+
+    private List<Product> searchProducts(String name, SearchMode mode, Long afterId, int limit, List<String> columns) {
+        return switch (mode) {
+            case SUBSTRING -> productMapper.searchProductsBySubstring(escapeLikePattern(name), afterId, limit, columns);
+            case FUZZY -> productMapper.searchProductsBySimilarity(name, limit, columns);
+            case FULLTEXT -> productMapper.searchProductsByFullText(name, limit, columns);
+        };
+    }
 
-        return product.stream().map(this::mapToResponseDTO).toList();
+    private String escapeLikePattern(String name) {
+        return name.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
     }
 
     @Override
-    @Transactional
-    public int handleInteraction(Long productId, boolean isLike) {
+    public InteractionCountsDTO handleInteraction(Long productId, boolean isLike) {
         Long userId = getAuthenticatedUserId();
         validateProductId(productId);
-        getProductOrThrow(productId);
-        Boolean currentInteraction = interactionService.getActiveInteraction(userId, productId);
+        if (interactionWriteBuffer.isEnabled()) {
+            InteractionCountsDTO counts = bufferInteraction(userId, productId, isLike);
+            leaderboardService.recordTrending(productId, isLike, counts.getState());
+            return counts;
+        }
+        InteractionCountsDTO counts = toggleInteraction(userId, productId, isLike);
+        leaderboardService.recordInteraction(productId, isLike, counts);
 
-        return processInteraction(userId, productId, isLike, currentInteraction);
+        return counts;
     }
 
-    private int processInteraction(Long userId, Long productId,
-                                   boolean isLike, Boolean existing) {
-        softDeleteOrUpsertInteraction(userId, productId, isLike, existing);
+    private InteractionCountsDTO toggleInteraction(Long userId, Long productId, boolean isLike) {
+        try {
+            return interactionService.toggleInteraction(userId, productId, isLike);
+        } catch (DataIntegrityViolationException e) {
+            if (isProductForeignKeyViolation(e)) {
+                throw new ProductNotFoundException("Product not found");
+            }
+            throw e;
+        }
+    }
 
-        if (isLike) {
-            return interactionService.getLikeCount(productId);
+    /**
+     * Only a product deleted between validation and the write means "not found"; any other
+     * constraint failure is a real error and must not be reported as a 404.
+     */
+    private static boolean isProductForeignKeyViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PSQLException psqlException) {
+                ServerErrorMessage serverError = psqlException.getServerErrorMessage();
+                return FOREIGN_KEY_VIOLATION.equals(psqlException.getSQLState())
+                        && serverError != null
+                        && PRODUCT_FOREIGN_KEY.equals(serverError.getConstraint());
+            }
         }
 
-        return interactionService.getDislikeCount(productId);
+        return false;
     }
 
-    private void softDeleteOrUpsertInteraction(Long userId, Long productId,
-                                               boolean isLike, Boolean existing) {
-        if (Objects.equals(existing, isLike))
-            interactionService.softDeleteInteraction(userId, productId);
-        else
-            interactionService.upsertInteraction(userId, productId, isLike);
+    private InteractionCountsDTO bufferInteraction(Long userId, Long productId, boolean isLike) {
+        getProductOrThrow(productId);
+        InteractionState state = interactionWriteBuffer.record(userId, productId, isLike);
+        InteractionCountsDTO counts = interactionService.getCounts(productId);
+        counts.setState(state);
+
+        return counts;
     }
 
     private Long validateAdmin() {
-        User admin = userService.getUserByRole(adminRole);
-        Long adminId = admin.getId();
-        Long authenticatedUserId = getAuthenticatedUserId();
-        if (Objects.equals(adminId, authenticatedUserId)) {
-            return adminId;
+        AuthenticatedUser currentUser = getAuthenticatedUser();
+        if (isAdmin(currentUser)) {
+            return currentUser.getId();
         }
         throw new UserForbiddenException("Only admin can load products");
     }
@@ -215,6 +412,7 @@ public class ProductServiceImpl implements ProductService {
 
         try (InputStream inputStream = getInputStreamFromUrl(fileAddress); Reader sourceReader = new InputStreamReader(inputStream, StandardCharsets.UTF_8); AdminIdInjectorReader injectedReader = new AdminIdInjectorReader(sourceReader, adminId)) {
             productMapper.copy(injectedReader);
+            productCache.invalidateAll();
         } catch (Exception e) {
             throw new RuntimeException("Bulk product load failed: " + e.getMessage(), e);
         } finally {
@@ -222,6 +420,52 @@ public class ProductServiceImpl implements ProductService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void exportProducts(ExportFormat format, OutputStream outputStream) {
+        try (Cursor<Product> products = productMapper.streamProducts()) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writeProducts(products, format, writer);
+            writer.flush();
+        } catch (IOException e) {
+            throw new RuntimeException("Product export failed: " + e.getMessage(), e);
+        }
+    }
+
+    private void writeProducts(Cursor<Product> products, ExportFormat format, Writer writer) throws IOException {
+        switch (format) {
+            case NDJSON -> writeNdjson(products, writer);
+            case CSV -> writeCsv(products, writer);
+        }
+    }
+
+    private void writeNdjson(Cursor<Product> products, Writer writer) throws IOException {
+        for (Product product : products) {
+            writer.write(objectMapper.writeValueAsString(mapToResponseDTO(product)));
+            writer.write('\n');
+        }
+    }
+
+    private void writeCsv(Cursor<Product> products, Writer writer) throws IOException {
+        CSVWriter csvWriter = new CSVWriter(writer);
+        csvWriter.writeNext(EXPORT_CSV_HEADER);
+        for (Product product : products) {
+            csvWriter.writeNext(toCsvRow(product));
+        }
+        csvWriter.flush();
+    }
+
+    private String[] toCsvRow(Product product) {
+        return new String[]{
+                String.valueOf(product.getId()),
+                product.getName(),
+                String.valueOf(product.getPrice()),
+                product.getDescription(),
+                String.valueOf(product.getUserId()),
+                product.getUsername(),
+                String.valueOf(product.getUpdatedAt())};
+    }
+
     private InputStream getInputStreamFromUrl(String fileAddress) {
         try {
             return getResourceAsStream(fileAddress);
@@ -239,14 +483,36 @@ public class ProductServiceImpl implements ProductService {
     }
 
     private Long getAuthenticatedUserId() {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userService.getUserByUsername(username);
-        if (user == null) throw new UserNotLoggedInException("User not logged in");
+        return getAuthenticatedUser().getId();
+    }
+
+    private Long findAuthenticatedUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.getId();
+        }
+
+        return null;
+    }
 
-        return user.getId();
+    private AuthenticatedUser getAuthenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            throw new UserNotLoggedInException("User not logged in");
+        }
+
+        return user;
     }
 
     private ProductResponseDTO mapToResponseDTO(Product product) {
-        return new ProductResponseDTO(product.getId(), product.getName(), product.getPrice(), product.getDescription(), product.getUserId(), userService.getUsernameById(product.getUserId()));
+        return new ProductResponseDTO(product.getId(), product.getName(), product.getPrice(), product.getDescription(), product.getUserId(), product.getUsername(), product.getUpdatedAt(), product.getVersion(), null);
+    }
+
+    private Function<Product, ProductResponseDTO> responseMapper(List<String> columns) {
+        if (columns == null) {
+            return this::mapToResponseDTO;
+        }
+
+        return product -> new SparseProductResponseDTO(product.getId(), product.getName(), product.getPrice(), product.getDescription(), product.getUserId(), product.getUsername(), product.getUpdatedAt(), product.getVersion());
     }
 }
\ No newline at end of file
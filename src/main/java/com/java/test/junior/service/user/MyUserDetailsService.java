@@ -1,6 +1,7 @@
 package com.java.test.junior.service.user;
 
 import com.java.test.junior.mapper.UserMapper;
+import com.java.test.junior.model.AuthenticatedUser;
 import com.java.test.junior.model.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -21,6 +22,6 @@ public class MyUserDetailsService implements UserDetailsService {
             throw new UsernameNotFoundException("User not in database!");
         }
 
-        return org.springframework.security.core.userdetails.User.builder().username(userFromDb.getUsername()).password(userFromDb.getPassword()).roles("USER").build();
+        return new AuthenticatedUser(userFromDb.getId(), userFromDb.getUsername(), userFromDb.getPassword(), userFromDb.getRole());
     }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.java.test.junior.service.user;
+
+import com.java.test.junior.model.CacheStats;
+import com.java.test.junior.model.User;
+
+import java.util.List;
+
+/**
+ * Read-through cache in front of {@link com.java.test.junior.mapper.UserMapper}, indexing users by id and by username.
+ */
+public interface UserCache {
+    User findByUsername(String username);
+
+    User findById(Long id);
+
+    User findFirstByRole(String role);
+
+    void invalidate(User user);
+
+    List<CacheStats> getStats();
+}
@@ -0,0 +1,73 @@
+package com.java.test.junior.service.user;
+
+import com.java.test.junior.mapper.UserMapper;
+import com.java.test.junior.model.CacheStats;
+import com.java.test.junior.model.User;
+import com.java.test.junior.util.BoundedTtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class UserCacheImpl implements UserCache {
+    private final UserMapper userMapper;
+    private final BoundedTtlCache<String, User> usersByUsername;
+    private final BoundedTtlCache<Long, User> usersById;
+    private final BoundedTtlCache<String, User> usersByRole;
+
+    public UserCacheImpl(UserMapper userMapper,
+                         @Value("${app.cache.user.max-size}") int maxSize,
+                         @Value("${app.cache.user.ttl-millis}") long ttlMillis) {
+        this.userMapper = userMapper;
+        this.usersByUsername = new BoundedTtlCache<>("usersByUsername", maxSize, ttlMillis);
+        this.usersById = new BoundedTtlCache<>("usersById", maxSize, ttlMillis);
+        this.usersByRole = new BoundedTtlCache<>("usersByRole", maxSize, ttlMillis);
+    }
+
+    @Override
+    public User findByUsername(String username) {
+        User cached = usersByUsername.getIfPresent(username);
+        if (cached != null) {
+            return cached;
+        }
+
+        return cacheUser(userMapper.findByUsername(username));
+    }
+
+    @Override
+    public User findById(Long id) {
+        User cached = usersById.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        return cacheUser(userMapper.findById(id));
+    }
+
+    private User cacheUser(User user) {
+        if (user != null) {
+            usersByUsername.put(user.getUsername(), user);
+            usersById.put(user.getId(), user);
+        }
+
+        return user;
+    }
+
+    @Override
+    public User findFirstByRole(String role) {
+        return usersByRole.get(role, userMapper::findFirstByRole);
+    }
+
+    @Override
+    public void invalidate(User user) {
+        usersByUsername.invalidate(user.getUsername());
+        usersById.invalidate(user.getId());
+        usersByRole.invalidate(user.getRole());
+    }
+
+    @Override
+    public List<CacheStats> getStats() {
+        return List.of(usersByUsername.stats(), usersById.stats(), usersByRole.stats());
+    }
+}
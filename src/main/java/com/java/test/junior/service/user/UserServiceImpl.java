@@ -19,12 +19,13 @@ public class UserServiceImpl implements UserService {
     private final PasswordEncoder passwordEncoder;
 
     private final UserMapper userMapper;
+    private final UserCache userCache;
     @Value("${app.user.default.role}")
     private String defaultRole;
 
     @Override
     public UserResponseDTO findByUsername(String username) {
-        User user = userMapper.findByUsername(username);
+        User user = userCache.findByUsername(username);
         if (user == null) {
             throw new UserNotFoundException("User not found");
         }
@@ -54,17 +55,20 @@ public class UserServiceImpl implements UserService {
     private void handleUserCreation(UserRegistrationDTO userRegistrationDTO) {
         User userEntity = new User(userRegistrationDTO.getUsername(), passwordEncoder.encode(userRegistrationDTO.getPassword()), defaultRole);
         userMapper.save(userEntity);
+        userCache.invalidate(userEntity);
     }
 
     public String getUsernameById(Long id) {
-        return userMapper.findUsernameById(id);
+        User user = userCache.findById(id);
+
+        return user == null ? null : user.getUsername();
     }
 
     public User getUserByUsername(String username) {
-        return userMapper.findByUsername(username);
+        return userCache.findByUsername(username);
     }
 
     public User getUserByRole(String role) {
-        return userMapper.findFirstByRole(role);
+        return userCache.findFirstByRole(role);
     }
 }
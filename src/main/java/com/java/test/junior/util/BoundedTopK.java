@@ -0,0 +1,53 @@
+package com.java.test.junior.util;
+
+import com.java.test.junior.model.ProductScore;
+
+import java.util.*;
+
+/**
+ * Keeps the {@code capacity} highest scoring products seen so far. Scores are absolute, so an offer for a product
+ * already ranked replaces its score; once full, an unranked product only gets in by beating the current minimum.
+ */
+public class BoundedTopK {
+    private static final Comparator<ProductScore> BY_SCORE_DESC =
+            Comparator.comparingLong(ProductScore::getScore).reversed().thenComparing(ProductScore::getProductId);
+
+    private final int capacity;
+    private final Map<Long, ProductScore> byProduct = new HashMap<>();
+    private final TreeSet<ProductScore> ranking = new TreeSet<>(BY_SCORE_DESC);
+
+    public BoundedTopK(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public synchronized void offer(Long productId, long score) {
+        ProductScore current = byProduct.remove(productId);
+        if (current != null) {
+            ranking.remove(current);
+        }
+        if (score <= 0) {
+            return;
+        }
+        if (byProduct.size() >= capacity) {
+            ProductScore lowest = ranking.last();
+            if (BY_SCORE_DESC.compare(new ProductScore(productId, score), lowest) >= 0) {
+                return;
+            }
+            ranking.pollLast();
+            byProduct.remove(lowest.getProductId());
+        }
+        ProductScore entry = new ProductScore(productId, score);
+        byProduct.put(productId, entry);
+        ranking.add(entry);
+    }
+
+    public synchronized void replaceAll(Collection<ProductScore> scores) {
+        byProduct.clear();
+        ranking.clear();
+        scores.forEach(score -> offer(score.getProductId(), score.getScore()));
+    }
+
+    public synchronized List<ProductScore> top(int limit) {
+        return ranking.stream().limit(limit).map(score -> new ProductScore(score.getProductId(), score.getScore())).toList();
+    }
+}
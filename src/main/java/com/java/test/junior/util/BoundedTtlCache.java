@@ -0,0 +1,94 @@
+package com.java.test.junior.util;
+
+import com.java.test.junior.model.CacheStats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Small in-process cache that evicts the least recently used entry once {@code maxSize} is reached
+ * and drops entries older than {@code ttlMillis} on access. Null values are never cached.
+ */
+public class BoundedTtlCache<K, V> {
+    private final String name;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public BoundedTtlCache(String name, int maxSize, long ttlMillis) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                boolean evict = size() > BoundedTtlCache.this.maxSize;
+                if (evict) {
+                    evictions.incrementAndGet();
+                }
+
+                return evict;
+            }
+        };
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        V value = getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+
+        value = loader.apply(key);
+        put(key, value);
+
+        return value;
+    }
+
+    public synchronized V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(key);
+            evictions.incrementAndGet();
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+
+        return entry.value;
+    }
+
+    public synchronized void put(K key, V value) {
+        if (key == null || value == null || maxSize <= 0) {
+            return;
+        }
+        entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+    }
+
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(name, entries.size(), maxSize, hits.get(), misses.get(), evictions.get());
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.java.test.junior.util;
+
+import org.springframework.core.NestedExceptionUtils;
+
+/**
+ * Turns an exception into the short failure reason stored next to rows the cleanup could not delete.
+ */
+public final class FailureReasons {
+    private static final int MAX_LENGTH = 1000;
+
+    private FailureReasons() {
+    }
+
+    public static String of(Throwable failure) {
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(failure);
+        String reason = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+
+        return reason.length() <= MAX_LENGTH ? reason : reason.substring(0, MAX_LENGTH);
+    }
+}
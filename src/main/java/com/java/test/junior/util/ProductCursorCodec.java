@@ -0,0 +1,45 @@
+package com.java.test.junior.util;
+
+import com.java.test.junior.exception.IllegalArgumentException;
+import com.java.test.junior.model.ProductCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Encodes the {@code (created_at, id)} position of the last product on a page into an opaque,
+ * URL-safe token, so clients can request the next page without an OFFSET scan.
+ */
+public final class ProductCursorCodec {
+    private static final String SEPARATOR = "|";
+    private static final String INVALID_CURSOR = "Invalid cursor";
+
+    private ProductCursorCodec() {
+    }
+
+    public static String encode(ProductCursor cursor) {
+        String raw = cursor.getCreatedAt() + SEPARATOR + cursor.getId();
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProductCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException(INVALID_CURSOR);
+            }
+
+            return new ProductCursor(LocalDateTime.parse(raw.substring(0, separatorIndex)), Long.parseLong(raw.substring(separatorIndex + 1)));
+        } catch (java.lang.IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.java.test.junior.util;
+
+import com.java.test.junior.model.Product;
+import com.java.test.junior.model.ProductResponseDTO;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Derives validators for conditional GETs from the product id and its {@code updated_at} column,
+ * so a request can be answered with 304 before the body is serialized.
+ */
+public final class ProductETags {
+    private static final long HASH_MULTIPLIER = 31;
+
+    private ProductETags() {
+    }
+
+    public static String forProduct(ProductResponseDTO product) {
+        return quote(product.getId() + "-" + Long.toHexString(version(product.getUpdatedAt())));
+    }
+
+    public static String forProducts(List<ProductResponseDTO> products, Object... discriminators) {
+        long hash = 1;
+        for (ProductResponseDTO product : products) {
+            hash = hash * HASH_MULTIPLIER + product.getId();
+            hash = hash * HASH_MULTIPLIER + version(product.getUpdatedAt());
+        }
+
+        return quote(products.size() + "-" + Long.toHexString(withDiscriminators(hash, discriminators)));
+    }
+
+    /**
+     * Same validator as {@link #forProducts}, computed from rows that only carry the id and {@code updated_at},
+     * so it can be checked before the page itself is loaded.
+     */
+    public static String forVersions(List<Product> versions, Object... discriminators) {
+        long hash = 1;
+        for (Product product : versions) {
+            hash = hash * HASH_MULTIPLIER + product.getId();
+            hash = hash * HASH_MULTIPLIER + version(product.getUpdatedAt());
+        }
+
+        return quote(versions.size() + "-" + Long.toHexString(withDiscriminators(hash, discriminators)));
+    }
+
+    private static long withDiscriminators(long hash, Object... discriminators) {
+        for (Object discriminator : discriminators) {
+            hash = hash * HASH_MULTIPLIER + (discriminator == null ? 0 : discriminator.hashCode());
+        }
+
+        return hash;
+    }
+
+    public static long lastModified(ProductResponseDTO product) {
+        if (product.getUpdatedAt() == null) {
+            return -1;
+        }
+
+        return product.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static long version(LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return 0;
+        }
+
+        return updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + updatedAt.getNano() / 1_000;
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
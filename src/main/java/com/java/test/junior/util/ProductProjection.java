@@ -0,0 +1,56 @@
+package com.java.test.junior.util;
+
+import com.java.test.junior.exception.IllegalArgumentException;
+import com.java.test.junior.model.ProductField;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Turns the {@code fields=} request parameter into the column list used by the projected product queries.
+ * A {@code null} column list means every column is loaded.
+ */
+public final class ProductProjection {
+    private static final String SUMMARY = "summary";
+    private static final String FIELD_SEPARATOR = ",";
+    private static final Set<ProductField> SUMMARY_FIELDS = EnumSet.of(ProductField.NAME, ProductField.PRICE, ProductField.USERNAME);
+
+    private ProductProjection() {
+    }
+
+    public static List<String> columns(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+
+        return parse(fields).stream().map(ProductField::getColumn).toList();
+    }
+
+    private static Set<ProductField> parse(String fields) {
+        if (SUMMARY.equalsIgnoreCase(fields.trim())) {
+            return SUMMARY_FIELDS;
+        }
+
+        Set<ProductField> selected = EnumSet.noneOf(ProductField.class);
+        for (String field : fields.split(FIELD_SEPARATOR)) {
+            if (!isAlwaysIncluded(field.trim())) {
+                selected.add(toField(field.trim()));
+            }
+        }
+
+        return selected;
+    }
+
+    private static boolean isAlwaysIncluded(String field) {
+        return field.isEmpty() || "id".equalsIgnoreCase(field) || "updatedAt".equalsIgnoreCase(field);
+    }
+
+    private static ProductField toField(String field) {
+        return Arrays.stream(ProductField.values())
+                .filter(candidate -> candidate.getFieldName().equalsIgnoreCase(field))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown product field: " + field));
+    }
+}
@@ -0,0 +1,73 @@
+package com.java.test.junior.util;
+
+import com.java.test.junior.model.ProductScore;
+
+import java.util.*;
+import java.util.function.LongSupplier;
+
+/**
+ * Counts events per product over the last {@code bucketCount} buckets of {@code bucketMillis} each. A ring of
+ * buckets is reused as time moves on, so old events drop out without a sweep.
+ */
+public class SlidingWindowCounter {
+    private final long bucketMillis;
+    private final Bucket[] buckets;
+    private final LongSupplier clock;
+
+    public SlidingWindowCounter(long bucketMillis, int bucketCount) {
+        this(bucketMillis, bucketCount, System::currentTimeMillis);
+    }
+
+    SlidingWindowCounter(long bucketMillis, int bucketCount, LongSupplier clock) {
+        this.bucketMillis = bucketMillis;
+        this.clock = clock;
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    public void add(Long productId, long delta) {
+        long epoch = clock.getAsLong() / bucketMillis;
+        Bucket bucket = buckets[(int) (epoch % buckets.length)];
+        synchronized (bucket) {
+            if (bucket.epoch != epoch) {
+                bucket.counts.clear();
+                bucket.epoch = epoch;
+            }
+            bucket.counts.merge(productId, delta, Long::sum);
+        }
+    }
+
+    public List<ProductScore> top(int limit) {
+        Map<Long, Long> totals = new HashMap<>();
+        long oldestEpoch = clock.getAsLong() / bucketMillis - buckets.length + 1;
+        for (Bucket bucket : buckets) {
+            synchronized (bucket) {
+                if (bucket.epoch >= oldestEpoch) {
+                    bucket.counts.forEach((productId, count) -> totals.merge(productId, count, Long::sum));
+                }
+            }
+        }
+
+        PriorityQueue<ProductScore> best = new PriorityQueue<>(Comparator.comparingLong(ProductScore::getScore));
+        totals.forEach((productId, score) -> {
+            if (score <= 0) {
+                return;
+            }
+            best.offer(new ProductScore(productId, score));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        });
+        List<ProductScore> result = new ArrayList<>(best);
+        result.sort(Comparator.comparingLong(ProductScore::getScore).reversed().thenComparing(ProductScore::getProductId));
+
+        return result;
+    }
+
+    private static final class Bucket {
+        private long epoch = Long.MIN_VALUE;
+        private final Map<Long, Long> counts = new HashMap<>();
+    }
+}
@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_product_created_at_id
+    ON product (created_at, id);
@@ -0,0 +1,57 @@
+--liquibase formatted sql
+
+--changeset marketplace:V13__product_row_counter splitStatements:false
+CREATE TABLE IF NOT EXISTS product_row_count
+(
+    id        BOOLEAN PRIMARY KEY DEFAULT TRUE CHECK (id),
+    row_count BIGINT NOT NULL
+);
+
+INSERT INTO product_row_count (id, row_count)
+SELECT TRUE, COUNT(*)
+FROM product
+ON CONFLICT (id) DO NOTHING;
+
+CREATE OR REPLACE FUNCTION product_row_count_on_insert() RETURNS TRIGGER AS
+$$
+BEGIN
+    UPDATE product_row_count SET row_count = row_count + (SELECT COUNT(*) FROM inserted_rows);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION product_row_count_on_delete() RETURNS TRIGGER AS
+$$
+BEGIN
+    UPDATE product_row_count SET row_count = row_count - (SELECT COUNT(*) FROM deleted_rows);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION product_row_count_on_truncate() RETURNS TRIGGER AS
+$$
+BEGIN
+    UPDATE product_row_count SET row_count = 0;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_product_row_count_insert
+    AFTER INSERT
+    ON product
+    REFERENCING NEW TABLE AS inserted_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION product_row_count_on_insert();
+
+CREATE TRIGGER trg_product_row_count_delete
+    AFTER DELETE
+    ON product
+    REFERENCING OLD TABLE AS deleted_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION product_row_count_on_delete();
+
+CREATE TRIGGER trg_product_row_count_truncate
+    AFTER TRUNCATE
+    ON product
+    FOR EACH STATEMENT
+EXECUTE FUNCTION product_row_count_on_truncate();
@@ -0,0 +1,7 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_product_name_trgm
+    ON product USING GIN (name gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_product_search_document
+    ON product USING GIN (to_tsvector('simple', name || ' ' || COALESCE(description, '')));
@@ -0,0 +1,19 @@
+CREATE TABLE IF NOT EXISTS product_interaction_counts
+(
+    product_id    BIGINT   NOT NULL,
+    shard         SMALLINT NOT NULL,
+    like_count    BIGINT   NOT NULL DEFAULT 0,
+    dislike_count BIGINT   NOT NULL DEFAULT 0,
+    PRIMARY KEY (product_id, shard),
+    CONSTRAINT fk_interaction_counts_product FOREIGN KEY (product_id) REFERENCES product (id) ON DELETE CASCADE
+);
+
+INSERT INTO product_interaction_counts (product_id, shard, like_count, dislike_count)
+SELECT product_id,
+       0,
+       COUNT(*) FILTER (WHERE is_like = TRUE),
+       COUNT(*) FILTER (WHERE is_like = FALSE)
+FROM product_interactions
+WHERE is_deleted = FALSE
+GROUP BY product_id
+ON CONFLICT (product_id, shard) DO NOTHING;
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS product_leaderboard
+(
+    board        VARCHAR(16) NOT NULL,
+    product_id   BIGINT      NOT NULL,
+    score        BIGINT      NOT NULL,
+    refreshed_at TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (board, product_id),
+    CONSTRAINT fk_leaderboard_product FOREIGN KEY (product_id) REFERENCES product (id) ON DELETE CASCADE
+);
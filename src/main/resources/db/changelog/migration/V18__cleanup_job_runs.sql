@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS cleanup_job_runs
+(
+    id           BIGSERIAL PRIMARY KEY,
+    node_id      VARCHAR(128) NOT NULL,
+    coordination VARCHAR(16)  NOT NULL,
+    shard        INT,
+    status       VARCHAR(16)  NOT NULL,
+    deleted_rows BIGINT       NOT NULL DEFAULT 0,
+    started_at   TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at  TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_cleanup_job_runs_started_at
+    ON cleanup_job_runs (started_at DESC);
@@ -0,0 +1,6 @@
+ALTER TABLE product_interactions ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP;
+
+-- Rows soft-deleted before this column existed keep deleted_at NULL and count as already past the horizon.
+CREATE INDEX IF NOT EXISTS idx_interactions_deleted_at
+    ON product_interactions (deleted_at)
+    WHERE is_deleted = TRUE AND delete_attempts < 3;
@@ -0,0 +1,26 @@
+ALTER TABLE product_interactions ADD COLUMN IF NOT EXISTS last_delete_error TEXT;
+
+CREATE TABLE IF NOT EXISTS product_interaction_quarantine
+(
+    user_id        BIGINT    NOT NULL,
+    product_id     BIGINT    NOT NULL,
+    reason         TEXT,
+    retry_attempts INT       NOT NULL DEFAULT 0,
+    quarantined_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_retry_at  TIMESTAMP,
+    next_retry_at  TIMESTAMP NOT NULL,
+    PRIMARY KEY (user_id, product_id),
+    CONSTRAINT fk_quarantined_interaction
+        FOREIGN KEY (user_id, product_id)
+            REFERENCES product_interactions (user_id, product_id)
+            ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_interaction_quarantine_next_retry
+    ON product_interaction_quarantine (next_retry_at);
+
+CREATE INDEX IF NOT EXISTS idx_stuck_interactions
+    ON product_interactions (user_id, product_id)
+    WHERE is_deleted = TRUE AND delete_attempts >= 3;
+
+DROP INDEX IF EXISTS idx_interactions_delete_tracking;
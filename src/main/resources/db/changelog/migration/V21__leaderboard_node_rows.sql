@@ -0,0 +1,4 @@
+ALTER TABLE product_leaderboard ADD COLUMN IF NOT EXISTS node_id VARCHAR(128) NOT NULL DEFAULT '';
+
+ALTER TABLE product_leaderboard DROP CONSTRAINT IF EXISTS product_leaderboard_pkey;
+ALTER TABLE product_leaderboard ADD PRIMARY KEY (board, node_id, product_id);
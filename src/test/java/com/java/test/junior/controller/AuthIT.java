@@ -20,6 +20,8 @@ public class AuthIT extends BaseIT {
     protected static final String JOHNY_PASS = "johny123";
 
     private static final String AUTH_REGISTER = "/auth/register";
+    private static final String AUTH_LOGIN = "/auth/login";
+    private static final String PRODUCTS = "/products";
 
 
     @Value("${app.user.default.role}")
@@ -83,4 +85,48 @@ public class AuthIT extends BaseIT {
         assertThat(response.getStatusCode()).isIn(HttpStatus.CONFLICT, HttpStatus.BAD_REQUEST, HttpStatus.FORBIDDEN);
     }
 
+    @Test
+    @Order(5)
+    void login_returnsTokenAcceptedAsBearerAuth() {
+        ResponseEntity<TokenResponseDTO> login =
+                restTemplate.postForEntity(AUTH_LOGIN, new LoginDTO(ALICE, ALICE_PASS), TokenResponseDTO.class);
+
+        assertThat(login.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertNotNull(login.getBody());
+        assertNotNull(login.getBody().getToken());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(login.getBody().getToken());
+        ResponseEntity<ProductResponseDTO> created =
+                restTemplate.exchange(PRODUCTS, HttpMethod.POST,
+                        new HttpEntity<>(new ProductDTO("Token Product", 5.0, "Created with a token"), headers),
+                        ProductResponseDTO.class);
+
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertNotNull(created.getBody());
+        assertEquals(ALICE, created.getBody().getUsername());
+    }
+
+    @Test
+    @Order(6)
+    void login_wrongPassword_returns401() {
+        ResponseEntity<ErrorResponse> response =
+                restTemplate.postForEntity(AUTH_LOGIN, new LoginDTO(ALICE, "wrongPassword"), ErrorResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    @Order(7)
+    void tamperedToken_returns401() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth("dGFtcGVyZWQ.c2lnbmF0dXJl");
+        ResponseEntity<ErrorResponse> response =
+                restTemplate.exchange(PRODUCTS, HttpMethod.POST,
+                        new HttpEntity<>(new ProductDTO("Forged Product", 5.0, "Should not be created"), headers),
+                        ErrorResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
 }
\ No newline at end of file
@@ -2,13 +2,19 @@ package com.java.test.junior.controller;
 
 import com.java.test.junior.BaseIT;
 import com.java.test.junior.model.ErrorResponse;
+import com.java.test.junior.model.InteractionCountsDTO;
+import com.java.test.junior.model.InteractionState;
+import com.java.test.junior.model.ProductInteractionDTO;
 import com.java.test.junior.model.ProductDTO;
 import com.java.test.junior.model.ProductResponseDTO;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -20,6 +26,7 @@ public class InteractionIT extends BaseIT {
     private static final String JOHNY_PASS = "johny123";
     private static final String PRODUCTS_LIKE = "/products/%d/like";
     private static final String PRODUCTS_DISLIKE = "/products/%d/dislike";
+    private static final String PRODUCTS_INTERACTIONS = "/products/interactions?ids=%d,%d";
 
     private static final Long productId = 1L;
 
@@ -29,61 +36,64 @@ public class InteractionIT extends BaseIT {
     @Test
     @Order(2)
     void johnyLikesProduct_likeCountBecomesOne() {
-        ResponseEntity<Integer> response =
+        ResponseEntity<InteractionCountsDTO> response =
                 restTemplate.withBasicAuth(JOHNY, JOHNY_PASS)
                         .exchange(String.format(PRODUCTS_LIKE, productId),
-                                HttpMethod.POST, null, Integer.class);
+                                HttpMethod.POST, null, InteractionCountsDTO.class);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).isEqualTo(1);
+        assertThat(response.getBody().getLikeCount()).isEqualTo(1);
+        assertThat(response.getBody().getState()).isEqualTo(InteractionState.LIKED);
     }
 
     @Test
     @Order(3)
     void johnyLikesAgain_softDeletesLike_likeCountBecomesZero() {
-        ResponseEntity<Integer> response =
+        ResponseEntity<InteractionCountsDTO> response =
                 restTemplate.withBasicAuth(JOHNY, JOHNY_PASS)
                         .exchange(String.format(PRODUCTS_LIKE, productId),
-                                HttpMethod.POST, null, Integer.class);
+                                HttpMethod.POST, null, InteractionCountsDTO.class);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).isEqualTo(0);
+        assertThat(response.getBody().getLikeCount()).isEqualTo(0);
+        assertThat(response.getBody().getState()).isEqualTo(InteractionState.NONE);
     }
 
     @Test
     @Order(4)
     void johnyLikesThirdTime_reactivatesLike_likeCountIsOne() {
-        ResponseEntity<Integer> response =
+        ResponseEntity<InteractionCountsDTO> response =
                 restTemplate.withBasicAuth(JOHNY, JOHNY_PASS)
                         .exchange(String.format(PRODUCTS_LIKE, productId),
-                                HttpMethod.POST, null, Integer.class);
+                                HttpMethod.POST, null, InteractionCountsDTO.class);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).isEqualTo(1);
+        assertThat(response.getBody().getLikeCount()).isEqualTo(1);
     }
 
     @Test
     @Order(5)
     void aliceDislikesProduct_dislikeCountBecomesOne() {
-        ResponseEntity<Integer> response =
+        ResponseEntity<InteractionCountsDTO> response =
                 restTemplate.withBasicAuth(ALICE, ALICE_PASS)
                         .exchange(String.format(PRODUCTS_DISLIKE, productId),
-                                HttpMethod.POST, null, Integer.class);
+                                HttpMethod.POST, null, InteractionCountsDTO.class);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).isEqualTo(1);
+        assertThat(response.getBody().getDislikeCount()).isEqualTo(1);
+        assertThat(response.getBody().getState()).isEqualTo(InteractionState.DISLIKED);
     }
 
     @Test
     @Order(6)
     void aliceDislikesAgain_softDeletesDislike_dislikeCountBecomesZero() {
-        ResponseEntity<Integer> response =
+        ResponseEntity<InteractionCountsDTO> response =
                 restTemplate.withBasicAuth(ALICE, ALICE_PASS)
                         .exchange(String.format(PRODUCTS_DISLIKE, productId),
-                                HttpMethod.POST, null, Integer.class);
+                                HttpMethod.POST, null, InteractionCountsDTO.class);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).isEqualTo(0);
+        assertThat(response.getBody().getDislikeCount()).isEqualTo(0);
     }
 
     @Test
@@ -91,26 +101,26 @@ public class InteractionIT extends BaseIT {
     void switchFromLikeToDislike_replacesInteraction() {
         restTemplate.withBasicAuth(ALICE, ALICE_PASS)
                 .exchange(String.format(PRODUCTS_LIKE, productId),
-                        HttpMethod.POST, null, Integer.class);
+                        HttpMethod.POST, null, InteractionCountsDTO.class);
 
-        ResponseEntity<Integer> dislikeResponse =
+        ResponseEntity<InteractionCountsDTO> dislikeResponse =
                 restTemplate.withBasicAuth(ALICE, ALICE_PASS)
                         .exchange(String.format(PRODUCTS_DISLIKE, productId),
-                                HttpMethod.POST, null, Integer.class);
+                                HttpMethod.POST, null, InteractionCountsDTO.class);
 
-        assertThat(dislikeResponse.getBody()).isEqualTo(1);
+        assertThat(dislikeResponse.getBody().getDislikeCount()).isEqualTo(1);
     }
 
     @Test
     @Order(8)
     void switchFromDislikeToLike_replacesInteraction() {
-        ResponseEntity<Integer> dislikeResponse =
+        ResponseEntity<InteractionCountsDTO> dislikeResponse =
                 restTemplate.withBasicAuth(JOHNY, JOHNY_PASS)
                         .exchange(String.format(PRODUCTS_DISLIKE, productId),
-                                HttpMethod.POST, null, Integer.class);
+                                HttpMethod.POST, null, InteractionCountsDTO.class);
 
         assertThat(dislikeResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(dislikeResponse.getBody()).isGreaterThanOrEqualTo(1);
+        assertThat(dislikeResponse.getBody().getDislikeCount()).isGreaterThanOrEqualTo(1);
     }
 
     @Test
@@ -125,6 +135,37 @@ public class InteractionIT extends BaseIT {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
 
+    @Test
+    @Order(10)
+    void batchInteractions_returnsCallerStateAndSkipsUnknownProducts() {
+        ResponseEntity<List<ProductInteractionDTO>> response =
+                restTemplate.withBasicAuth(JOHNY, JOHNY_PASS)
+                        .exchange(String.format(PRODUCTS_INTERACTIONS, productId, 999999L),
+                                HttpMethod.GET, null,
+                                new ParameterizedTypeReference<>() {
+                                });
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).hasSize(1);
+        assertThat(response.getBody().get(0).getProductId()).isEqualTo(productId);
+        assertThat(response.getBody().get(0).getState()).isNotNull();
+    }
+
+    @Test
+    @Order(11)
+    void batchInteractions_anonymousGetsCountsOnly() {
+        ResponseEntity<List<ProductInteractionDTO>> response =
+                restTemplate.exchange(String.format(PRODUCTS_INTERACTIONS, productId, productId),
+                        HttpMethod.GET, null,
+                        new ParameterizedTypeReference<>() {
+                        });
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).hasSize(1);
+        assertThat(response.getBody().get(0).getDislikeCount()).isGreaterThanOrEqualTo(1);
+        assertThat(response.getBody().get(0).getState()).isNull();
+    }
+
     @Test
     @Order(12)
     void unauthenticatedLike_returns401() {
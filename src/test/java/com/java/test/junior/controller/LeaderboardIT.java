@@ -0,0 +1,111 @@
+package com.java.test.junior.controller;
+
+import com.java.test.junior.BaseIT;
+import com.java.test.junior.model.InteractionCountsDTO;
+import com.java.test.junior.model.InteractionState;
+import com.java.test.junior.model.LeaderboardEntryDTO;
+import com.java.test.junior.service.leaderboard.LeaderboardService;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class LeaderboardIT extends BaseIT {
+
+    private static final String ALICE = "alice";
+    private static final String ALICE_PASS = "alice123";
+    private static final String PRODUCTS_LIKE = "/products/%d/like";
+    private static final String PRODUCTS_TOP = "/products/top?limit=%d";
+    private static final String PRODUCTS_TRENDING = "/products/trending?limit=%d";
+    private static final String STORED_TOP = "SELECT count(*) FROM product_leaderboard WHERE board = 'TOP' AND product_id = ?";
+    private static final String STORED_TRENDING = "SELECT count(*) FROM product_leaderboard WHERE board = 'TRENDING' AND product_id = ? AND node_id <> ''";
+    private static final String STORE_OTHER_NODE_TRENDING = "INSERT INTO product_leaderboard (board, node_id, product_id, score, refreshed_at) VALUES ('TRENDING', 'it-other-node', ?, ?, CURRENT_TIMESTAMP)";
+    private static final long OTHER_NODE_SCORE = 5;
+    private static final long TRENDING_SNAPSHOT_WAIT_MS = 1100;
+    private static final ParameterizedTypeReference<List<LeaderboardEntryDTO>> ENTRIES = new ParameterizedTypeReference<>() {
+    };
+
+    private static final Long productId = 1L;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @Order(1)
+    void likedProduct_appearsOnTopAndTrendingBoards() throws InterruptedException {
+        like();
+
+        ResponseEntity<List<LeaderboardEntryDTO>> top = restTemplate.exchange(String.format(PRODUCTS_TOP, 10), HttpMethod.GET, null, ENTRIES);
+        assertThat(top.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(top.getBody()).anySatisfy(entry -> {
+            assertThat(entry.getProduct().getId()).isEqualTo(productId);
+            assertThat(entry.getScore()).isGreaterThanOrEqualTo(1);
+        });
+
+        Thread.sleep(TRENDING_SNAPSHOT_WAIT_MS);
+        ResponseEntity<List<LeaderboardEntryDTO>> trending = restTemplate.exchange(String.format(PRODUCTS_TRENDING, 10), HttpMethod.GET, null, ENTRIES);
+        assertThat(trending.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(trending.getBody()).anySatisfy(entry -> assertThat(entry.getProduct().getId()).isEqualTo(productId));
+        assertThat(trending.getBody().get(0).getRank()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(2)
+    void invalidLimit_returnsBadRequest() {
+        assertThat(restTemplate.getForEntity(String.format(PRODUCTS_TOP, 0), String.class).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(restTemplate.getForEntity(String.format(PRODUCTS_TRENDING, 0), String.class).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @Order(3)
+    void refresh_persistsBothBoards_evenWhenRunTwice() {
+        leaderboardService.refresh();
+        leaderboardService.refresh();
+
+        assertThat(jdbcTemplate.queryForObject(STORED_TOP, Integer.class, productId)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(STORED_TRENDING, Integer.class, productId)).isEqualTo(1);
+
+        ResponseEntity<List<LeaderboardEntryDTO>> top = restTemplate.exchange(String.format(PRODUCTS_TOP, 10), HttpMethod.GET, null, ENTRIES);
+        assertThat(top.getBody()).anySatisfy(entry -> assertThat(entry.getProduct().getId()).isEqualTo(productId));
+    }
+
+    @Test
+    @Order(4)
+    void trending_mergesWindowsStoredByOtherNodes() {
+        jdbcTemplate.update(STORE_OTHER_NODE_TRENDING, productId, OTHER_NODE_SCORE);
+        leaderboardService.refresh();
+
+        ResponseEntity<List<LeaderboardEntryDTO>> trending = restTemplate.exchange(String.format(PRODUCTS_TRENDING, 10), HttpMethod.GET, null, ENTRIES);
+        assertThat(trending.getBody()).anySatisfy(entry -> {
+            assertThat(entry.getProduct().getId()).isEqualTo(productId);
+            assertThat(entry.getScore()).isEqualTo(OTHER_NODE_SCORE + 1);
+        });
+    }
+
+    @Test
+    @Order(5)
+    void likeAgain_removesLike() {
+        assertThat(like().getState()).isEqualTo(InteractionState.NONE);
+    }
+
+    private InteractionCountsDTO like() {
+        return restTemplate.withBasicAuth(ALICE, ALICE_PASS)
+                .postForEntity(String.format(PRODUCTS_LIKE, productId), null, InteractionCountsDTO.class)
+                .getBody();
+    }
+}
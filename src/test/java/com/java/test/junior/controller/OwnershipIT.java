@@ -0,0 +1,150 @@
+package com.java.test.junior.controller;
+
+import com.java.test.junior.BaseIT;
+import com.java.test.junior.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Checks that the id and role carried by the principal decide ownership and admin access, for both the
+ * Basic and the bearer token authentication paths.
+ */
+public class OwnershipIT extends BaseIT {
+
+    private static final String OWNER = "owner-it";
+    private static final String OWNER_PASS = "owner123";
+    private static final String OTHER = "other-it";
+    private static final String OTHER_PASS = "other123";
+
+    private static final String AUTH_REGISTER = "/auth/register";
+    private static final String AUTH_LOGIN = "/auth/login";
+    private static final String PRODUCTS = "/products";
+    private static final String PRODUCTS_BY_ID = "/products/%d";
+    private static final String ADMIN_CACHES = "/admin/caches";
+    private static final String USER_ID = "SELECT id FROM users WHERE username = ?";
+
+    @Value("${app.admin.default.username}")
+    private String admin;
+    @Value("${app.admin.default.password}")
+    private String adminPass;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void registerUsers() {
+        register(OWNER, OWNER_PASS);
+        register(OTHER, OTHER_PASS);
+    }
+
+    @Test
+    void basicAuth_ownerAndAdminMayModify_otherUserMayNot() {
+        assertOwnershipRules(this::basic);
+    }
+
+    @Test
+    void bearerToken_ownerAndAdminMayModify_otherUserMayNot() {
+        assertOwnershipRules(this::bearer);
+    }
+
+    @Test
+    void basicAuth_adminEndpointsRequireAdminRole() {
+        assertAdminRole(this::basic);
+    }
+
+    @Test
+    void bearerToken_adminEndpointsRequireAdminRole() {
+        assertAdminRole(this::bearer);
+    }
+
+    private void assertOwnershipRules(BiFunction<String, String, HttpHeaders> auth) {
+        Long ownerId = jdbcTemplate.queryForObject(USER_ID, Long.class, OWNER);
+        HttpHeaders owner = auth.apply(OWNER, OWNER_PASS);
+        HttpHeaders other = auth.apply(OTHER, OTHER_PASS);
+        HttpHeaders administrator = auth.apply(admin, adminPass);
+
+        ProductResponseDTO created = create(owner);
+        assertThat(created.getUserId()).isEqualTo(ownerId);
+        assertThat(created.getUsername()).isEqualTo(OWNER);
+
+        assertThat(update(created.getId(), other, "Taken over").getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(delete(created.getId(), other).getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+
+        ResponseEntity<String> byOwner = update(created.getId(), owner, "Owner revision");
+        assertThat(byOwner.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        ResponseEntity<String> byAdmin = update(created.getId(), administrator, "Admin revision");
+        assertThat(byAdmin.getStatusCode()).isEqualTo(HttpStatus.OK);
+        ProductResponseDTO stored = restTemplate.getForObject(String.format(PRODUCTS_BY_ID, created.getId()), ProductResponseDTO.class);
+        assertThat(stored.getName()).isEqualTo("Admin revision");
+        assertThat(stored.getUserId()).isEqualTo(ownerId);
+
+        assertThat(delete(created.getId(), owner).getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        ProductResponseDTO second = create(owner);
+        assertThat(delete(second.getId(), administrator).getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(restTemplate.getForEntity(String.format(PRODUCTS_BY_ID, second.getId()), String.class).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    private void assertAdminRole(BiFunction<String, String, HttpHeaders> auth) {
+        ResponseEntity<String> asUser = restTemplate.exchange(ADMIN_CACHES, HttpMethod.GET, new HttpEntity<>(auth.apply(OWNER, OWNER_PASS)), String.class);
+        assertThat(asUser.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+
+        ResponseEntity<String> asAdmin = restTemplate.exchange(ADMIN_CACHES, HttpMethod.GET, new HttpEntity<>(auth.apply(admin, adminPass)), String.class);
+        assertThat(asAdmin.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    private ProductResponseDTO create(HttpHeaders headers) {
+        ResponseEntity<ProductResponseDTO> response = restTemplate.exchange(PRODUCTS, HttpMethod.POST,
+                new HttpEntity<>(new ProductDTO("Owned product", 10.0, "Owned by the caller"), headers), ProductResponseDTO.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertNotNull(response.getBody());
+
+        return response.getBody();
+    }
+
+    private ResponseEntity<String> update(Long id, HttpHeaders headers, String name) {
+        return restTemplate.exchange(String.format(PRODUCTS_BY_ID, id), HttpMethod.PUT,
+                new HttpEntity<>(new ProductDTO(name, 11.0, "Revised"), headers), String.class);
+    }
+
+    private ResponseEntity<String> delete(Long id, HttpHeaders headers) {
+        return restTemplate.exchange(String.format(PRODUCTS_BY_ID, id), HttpMethod.DELETE, new HttpEntity<>(headers), String.class);
+    }
+
+    private void register(String username, String password) {
+        ResponseEntity<String> response = restTemplate.postForEntity(AUTH_REGISTER, new UserRegistrationDTO(username, password), String.class);
+        assertThat(response.getStatusCode()).isIn(HttpStatus.CREATED, HttpStatus.CONFLICT);
+    }
+
+    private HttpHeaders basic(String username, String password) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBasicAuth(username, password);
+
+        return headers;
+    }
+
+    private HttpHeaders bearer(String username, String password) {
+        ResponseEntity<TokenResponseDTO> login = restTemplate.postForEntity(AUTH_LOGIN, new LoginDTO(username, password), TokenResponseDTO.class);
+        assertThat(login.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertNotNull(login.getBody());
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(login.getBody().getToken());
+
+        return headers;
+    }
+}
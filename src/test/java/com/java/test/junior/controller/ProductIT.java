@@ -1,22 +1,28 @@
 package com.java.test.junior.controller;
 
 import com.java.test.junior.BaseIT;
+import com.java.test.junior.model.CursorPageResponse;
 import com.java.test.junior.model.ErrorResponse;
 import com.java.test.junior.model.PageResponse;
 import com.java.test.junior.model.ProductDTO;
+import com.java.test.junior.model.ProductLookupDTO;
 import com.java.test.junior.model.ProductResponseDTO;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -34,6 +40,18 @@ public class ProductIT extends BaseIT {
     private static final String PRODUCTS_BY_ID = "/products/%d";
     private static final String PRODUCTS_PAGINATION = "/products?page=%d&page_size=%d";
     private static final String PRODUCTS_BY_NAME = "/products/name/%s";
+    private static final String PRODUCTS_SEARCH = "/products/name/%s?mode=%s&limit=%d";
+    private static final String PRODUCTS_SEARCH_AFTER = "/products/name/%s?limit=%d&after_id=%d";
+    private static final String PRODUCTS_EXPORT = "/products/export?format=%s";
+    private static final String PRODUCTS_BATCH = "/products/batch?ids=%d,%d";
+    private static final String PRODUCTS_PAGINATION_FIELDS = "/products?page=%d&page_size=%d&fields=%s";
+    private static final String PRODUCTS_CURSOR = "/products?cursor=%s&page_size=%d";
+
+    private static final String INSERT_PRODUCT_WITHOUT_DESCRIPTION = """
+            INSERT INTO product (name, price, description, user_id, created_at, updated_at)
+            SELECT 'No description', 1.0, NULL, id, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM users WHERE username = 'alice'
+            RETURNING id
+            """;
 
     private static Long aliceProductId;
     private static Long johnyProductId;
@@ -41,6 +59,14 @@ public class ProductIT extends BaseIT {
     @Autowired
     private TestRestTemplate restTemplate;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.admin.default.username}")
+    private String admin;
+    @Value("${app.admin.default.password}")
+    private String adminPass;
+
     @Test
     @Order(1)
     void aliceCreatesProduct_returnsCreatedWithId() {
@@ -276,4 +302,277 @@ public class ProductIT extends BaseIT {
         assertThat(response.getStatusCode()).isIn(HttpStatus.BAD_REQUEST, HttpStatus.NOT_FOUND);
     }
 
-}
\ No newline at end of file
+    @Test
+    @Order(18)
+    void cursorPagination_walksAllProductsWithoutDuplicates() {
+        List<Long> seen = new ArrayList<>();
+        String cursor = "";
+
+        do {
+            ResponseEntity<CursorPageResponse<ProductResponseDTO>> response =
+                    restTemplate.exchange(String.format(PRODUCTS_CURSOR, cursor, 2),
+                            HttpMethod.GET, null,
+                            new ParameterizedTypeReference<>() {
+                            });
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            CursorPageResponse<ProductResponseDTO> page = response.getBody();
+            assertNotNull(page);
+            assertThat(page.getContent().size()).isLessThanOrEqualTo(2);
+            page.getContent().forEach(product -> seen.add(product.getId()));
+            cursor = page.getNext();
+        } while (cursor != null);
+
+        assertThat(seen).doesNotHaveDuplicates();
+        assertThat(seen.size()).isGreaterThanOrEqualTo(6);
+    }
+
+    @Test
+    @Order(19)
+    void cursorPagination_invalidCursor_returns400() {
+        ResponseEntity<ErrorResponse> response =
+                restTemplate.getForEntity(String.format(PRODUCTS_CURSOR, "not-a-cursor", 2),
+                        ErrorResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @Order(20)
+    void searchByName_limitAndAfterIdPageThroughMatches() {
+        List<ProductResponseDTO> firstPage = search(String.format(PRODUCTS_SEARCH, "Bulk", "SUBSTRING", 2));
+        assertThat(firstPage).hasSize(2);
+
+        Long lastId = firstPage.get(firstPage.size() - 1).getId();
+        List<ProductResponseDTO> secondPage = search(String.format(PRODUCTS_SEARCH_AFTER, "Bulk", 2, lastId));
+
+        assertThat(secondPage).isNotEmpty();
+        assertThat(secondPage).allMatch(product -> product.getId() > lastId);
+    }
+
+    @Test
+    @Order(21)
+    void searchByName_fullTextMode_returnsRankedMatches() {
+        List<ProductResponseDTO> products = search(String.format(PRODUCTS_SEARCH, "bulk", "FULLTEXT", 10));
+
+        assertThat(products).isNotEmpty();
+        assertThat(products).allMatch(product -> product.getName().startsWith("Bulk"));
+    }
+
+    private List<ProductResponseDTO> search(String url) {
+        ResponseEntity<List<ProductResponseDTO>> response =
+                restTemplate.exchange(url, HttpMethod.GET, null,
+                        new ParameterizedTypeReference<>() {
+                        });
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertNotNull(response.getBody());
+        return response.getBody();
+    }
+
+    @Test
+    @Order(22)
+    void getProductById_withMatchingETag_returns304() {
+        ResponseEntity<ProductResponseDTO> first =
+                restTemplate.getForEntity(String.format(PRODUCTS_BY_ID, aliceProductId), ProductResponseDTO.class);
+        String eTag = first.getHeaders().getETag();
+        assertNotNull(eTag);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+        ResponseEntity<ProductResponseDTO> second =
+                restTemplate.exchange(String.format(PRODUCTS_BY_ID, aliceProductId),
+                        HttpMethod.GET, new HttpEntity<>(headers), ProductResponseDTO.class);
+
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertNull(second.getBody());
+    }
+
+    @Test
+    @Order(23)
+    void getProductById_afterUpdate_returnsNewETag() {
+        String before = restTemplate.getForEntity(String.format(PRODUCTS_BY_ID, aliceProductId), ProductResponseDTO.class)
+                .getHeaders().getETag();
+
+        restTemplate.withBasicAuth(ALICE, ALICE_PASS)
+                .exchange(String.format(PRODUCTS_BY_ID, aliceProductId), HttpMethod.PUT,
+                        new HttpEntity<>(new ProductDTO("Gadget v2", 69.99, "Second revision")),
+                        ProductResponseDTO.class);
+
+        String after = restTemplate.getForEntity(String.format(PRODUCTS_BY_ID, aliceProductId), ProductResponseDTO.class)
+                .getHeaders().getETag();
+
+        assertNotEquals(before, after);
+    }
+
+    @Test
+    @Order(24)
+    void exportProducts_streamsOneJsonObjectPerLine() {
+        ResponseEntity<String> response =
+                restTemplate.getForEntity(String.format(PRODUCTS_EXPORT, "NDJSON"), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertNotNull(response.getBody());
+        String[] lines = response.getBody().split("\n");
+        assertThat(lines.length).isGreaterThanOrEqualTo(6);
+        assertThat(lines).allMatch(line -> line.startsWith("{") && line.endsWith("}"));
+    }
+
+    @Test
+    @Order(25)
+    void exportProducts_csvStartsWithHeader() {
+        ResponseEntity<String> response =
+                restTemplate.getForEntity(String.format(PRODUCTS_EXPORT, "CSV"), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertNotNull(response.getBody());
+        assertThat(response.getBody()).startsWith("\"id\",\"name\"");
+    }
+
+    @Test
+    @Order(26)
+    void getProductsByIds_marksMissingProducts() {
+        ResponseEntity<List<ProductLookupDTO>> response =
+                restTemplate.exchange(String.format(PRODUCTS_BATCH, aliceProductId, 999999L),
+                        HttpMethod.GET, null,
+                        new ParameterizedTypeReference<>() {
+                        });
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<ProductLookupDTO> lookups = response.getBody();
+        assertNotNull(lookups);
+        assertThat(lookups).hasSize(2);
+        assertTrue(lookups.get(0).isFound());
+        assertEquals(aliceProductId, lookups.get(0).getProduct().getId());
+        assertFalse(lookups.get(1).isFound());
+        assertNull(lookups.get(1).getProduct());
+    }
+
+    @Test
+    @Order(27)
+    void pagination_withFields_omitsUnrequestedColumns() {
+        ResponseEntity<String> response =
+                restTemplate.getForEntity(String.format(PRODUCTS_PAGINATION_FIELDS, 1, 2, "name,price"), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertNotNull(response.getBody());
+        assertThat(response.getBody()).contains("\"name\"", "\"price\"", "\"id\"");
+        assertThat(response.getBody()).doesNotContain("\"description\"", "\"username\"");
+    }
+
+    @Test
+    @Order(28)
+    void pagination_withUnknownField_returns400() {
+        ResponseEntity<ErrorResponse> response =
+                restTemplate.getForEntity(String.format(PRODUCTS_PAGINATION_FIELDS, 1, 2, "password"), ErrorResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @Order(29)
+    void modifyProduct_withStaleVersion_returns409() {
+        ResponseEntity<ProductResponseDTO> current =
+                restTemplate.withBasicAuth(ALICE, ALICE_PASS)
+                        .exchange(String.format(PRODUCTS_BY_ID, aliceProductId),
+                                HttpMethod.PUT,
+                                new HttpEntity<>(new ProductDTO("Gadget v3", 79.99, "Third revision")),
+                                ProductResponseDTO.class);
+        assertThat(current.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertNotNull(current.getBody());
+        Long version = current.getBody().getVersion();
+
+        ResponseEntity<ProductResponseDTO> fresh =
+                restTemplate.withBasicAuth(ALICE, ALICE_PASS)
+                        .exchange(String.format(PRODUCTS_BY_ID, aliceProductId),
+                                HttpMethod.PUT,
+                                new HttpEntity<>(new ProductDTO("Gadget v4", 89.99, "Fourth revision", version)),
+                                ProductResponseDTO.class);
+        assertThat(fresh.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertNotNull(fresh.getBody());
+        assertEquals(version + 1, fresh.getBody().getVersion());
+
+        ResponseEntity<ErrorResponse> stale =
+                restTemplate.withBasicAuth(ALICE, ALICE_PASS)
+                        .exchange(String.format(PRODUCTS_BY_ID, aliceProductId),
+                                HttpMethod.PUT,
+                                new HttpEntity<>(new ProductDTO("Gadget v5", 99.99, "Stale revision", version)),
+                                ErrorResponse.class);
+        assertThat(stale.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    @Order(30)
+    void pagination_withMatchingETag_returns304() {
+        String url = String.format(PRODUCTS_PAGINATION, 1, 3);
+        String eTag = restTemplate.getForEntity(url, String.class).getHeaders().getETag();
+        assertNotNull(eTag);
+
+        ResponseEntity<String> second = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(ifNoneMatch(eTag)), String.class);
+
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertNull(second.getBody());
+    }
+
+    @Test
+    @Order(31)
+    void pagination_afterUpdateOnPage_returnsNewETag() {
+        String url = String.format(PRODUCTS_PAGINATION, 1, 3);
+        ResponseEntity<PageResponse<ProductResponseDTO>> first =
+                restTemplate.exchange(url, HttpMethod.GET, null, new ParameterizedTypeReference<>() {
+                });
+        String eTag = first.getHeaders().getETag();
+        assertNotNull(first.getBody());
+        ProductResponseDTO onPage = first.getBody().getContent().get(0);
+
+        String description = onPage.getDescription() == null || onPage.getDescription().isBlank() ? "Touched" : onPage.getDescription();
+        ResponseEntity<ProductResponseDTO> updated = restTemplate.withBasicAuth(admin, adminPass)
+                .exchange(String.format(PRODUCTS_BY_ID, onPage.getId()), HttpMethod.PUT,
+                        new HttpEntity<>(new ProductDTO(onPage.getName(), onPage.getPrice(), description)),
+                        ProductResponseDTO.class);
+        assertThat(updated.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        ResponseEntity<String> second = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(ifNoneMatch(eTag)), String.class);
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertNotEquals(eTag, second.getHeaders().getETag());
+    }
+
+    private HttpHeaders ifNoneMatch(String eTag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+
+        return headers;
+    }
+
+    @Test
+    @Order(32)
+    void getProductById_withNullDescription_keepsDescriptionKey() {
+        Long id = jdbcTemplate.queryForObject(INSERT_PRODUCT_WITHOUT_DESCRIPTION, Long.class);
+
+        ResponseEntity<String> response = restTemplate.getForEntity(String.format(PRODUCTS_BY_ID, id), String.class);
+
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(response.getBody()).contains("\"description\":null");
+        assertThat(response.getBody()).doesNotContain("\"interactions\"");
+    }
+
+    @Test
+    @Order(33)
+    void cachedProduct_isReReadAfterUpdateAndDelete() {
+        ProductResponseDTO created = restTemplate.withBasicAuth(ALICE, ALICE_PASS)
+                .postForEntity(PRODUCTS, new ProductDTO("Cached Gadget", 5.0, "Cached once"), ProductResponseDTO.class)
+                .getBody();
+        assertNotNull(created);
+        String url = String.format(PRODUCTS_BY_ID, created.getId());
+        assertEquals("Cached Gadget", restTemplate.getForObject(url, ProductResponseDTO.class).getName());
+
+        restTemplate.withBasicAuth(ALICE, ALICE_PASS)
+                .exchange(url, HttpMethod.PUT, new HttpEntity<>(new ProductDTO("Cached Gadget v2", 6.0, "Cached twice")), ProductResponseDTO.class);
+        ProductResponseDTO updated = restTemplate.getForObject(url, ProductResponseDTO.class);
+        assertEquals("Cached Gadget v2", updated.getName());
+        assertEquals(6.0, updated.getPrice());
+
+        restTemplate.withBasicAuth(ALICE, ALICE_PASS).exchange(url, HttpMethod.DELETE, null, Void.class);
+        assertThat(restTemplate.getForEntity(url, ErrorResponse.class).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+}
@@ -0,0 +1,41 @@
+package com.java.test.junior.service;
+
+import com.java.test.junior.exception.InvalidCredentialsException;
+import com.java.test.junior.model.LoginDTO;
+import com.java.test.junior.service.auth.AuthServiceImpl;
+import com.java.test.junior.service.auth.TokenService;
+import com.java.test.junior.service.user.UserService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTest {
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private TokenService tokenService;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void shouldCheckPasswordAgainstDummyHashForUnknownUser() {
+        when(passwordEncoder.encode(anyString())).thenReturn("dummy-hash");
+        AuthServiceImpl authService = new AuthServiceImpl(userService, tokenService, passwordEncoder);
+
+        assertThatThrownBy(() -> authService.login(new LoginDTO("ghost", "secret")))
+                .isInstanceOf(InvalidCredentialsException.class);
+
+        verify(passwordEncoder).matches("secret", "dummy-hash");
+        verifyNoInteractions(tokenService);
+    }
+}
@@ -0,0 +1,88 @@
+package com.java.test.junior.service;
+
+import com.java.test.junior.BaseIT;
+import com.java.test.junior.mapper.CleanupRunMapper;
+import com.java.test.junior.model.CleanupCoordination;
+import com.java.test.junior.service.database.CleanupCoordinatorImpl;
+import com.java.test.junior.service.database.DatabaseScheduleService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CleanupCoordinationIT extends BaseIT {
+
+    @Autowired
+    private DatabaseScheduleService scheduleService;
+
+    @Autowired
+    private CleanupRunMapper cleanupRunMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final long LEADER_LOCK_KEY = 0x636c65616e00L;
+    private static final long SHARD_LOCK_KEY_BASE = 0x636c65616e01L;
+    private static final String RUN_STATUSES = "SELECT status FROM cleanup_job_runs WHERE node_id = ? ORDER BY id";
+    private static final String RUN_SHARDS = "SELECT shard FROM cleanup_job_runs WHERE node_id = ? AND status = 'COMPLETED' ORDER BY shard";
+
+    @Test
+    void leaderSkipsWhileAnotherNodeHoldsTheJobLock() throws SQLException {
+        CleanupCoordinatorImpl coordinator = coordinator(CleanupCoordination.LEADER, 1, "it-leader");
+
+        try (Connection otherNode = connect()) {
+            assertThat(tryLock(otherNode, LEADER_LOCK_KEY)).isTrue();
+            coordinator.runCoordinated();
+        }
+        coordinator.runCoordinated();
+
+        assertThat(jdbcTemplate.queryForList(RUN_STATUSES, String.class, "it-leader"))
+                .containsExactly("SKIPPED", "COMPLETED");
+        try (Connection otherNode = connect()) {
+            assertThat(tryLock(otherNode, LEADER_LOCK_KEY)).isTrue();
+        }
+    }
+
+    @Test
+    void shardedRunSkipsShardsHeldElsewhere() throws SQLException {
+        CleanupCoordinatorImpl coordinator = coordinator(CleanupCoordination.SHARDED, 4, "it-sharded");
+
+        try (Connection otherNode = connect()) {
+            assertThat(tryLock(otherNode, SHARD_LOCK_KEY_BASE + 1)).isTrue();
+            assertThat(tryLock(otherNode, SHARD_LOCK_KEY_BASE + 3)).isTrue();
+            coordinator.runCoordinated();
+        }
+
+        List<Integer> shards = jdbcTemplate.queryForList(RUN_SHARDS, Integer.class, "it-sharded");
+        assertThat(shards).containsExactly(0, 2);
+    }
+
+    private CleanupCoordinatorImpl coordinator(CleanupCoordination coordination, int shards, String nodeId) {
+        return new CleanupCoordinatorImpl(scheduleService, cleanupRunMapper, dataSource, coordination, shards, nodeId);
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+
+    private boolean tryLock(Connection connection, long key) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            statement.setLong(1, key);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.java.test.junior.service;
+
+import com.java.test.junior.mapper.DatabaseLoadMapper;
+import com.java.test.junior.model.DatabaseLoad;
+import com.java.test.junior.service.database.CleanupGovernorImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CleanupGovernorTest {
+
+    @Mock
+    private DatabaseLoadMapper databaseLoadMapper;
+
+    private CleanupGovernorImpl governor() {
+        return new CleanupGovernorImpl(databaseLoadMapper, true, 100, 1000, 100, 200, 20, 2000, 20, 5000, 0);
+    }
+
+    @Test
+    void shouldGrowAdditivelyWhileFastAndQuiet() {
+        when(databaseLoadMapper.sampleLoad()).thenReturn(new DatabaseLoad(1, 0, 0));
+        CleanupGovernorImpl governor = governor();
+
+        long pause = governor.onSuccess(100, 50);
+        governor.onSuccess(200, 50);
+
+        assertThat(pause).isEqualTo(20);
+        assertThat(governor.nextBatchSize()).isEqualTo(300);
+    }
+
+    @Test
+    void shouldHalveOnSlowBatchOrLockWaits() {
+        DatabaseLoad quiet = new DatabaseLoad(1, 0, 0);
+        when(databaseLoadMapper.sampleLoad()).thenReturn(quiet, quiet, quiet, new DatabaseLoad(1, 3, 0));
+        CleanupGovernorImpl governor = governor();
+        governor.onSuccess(100, 50);
+        governor.onSuccess(200, 50);
+
+        governor.onSuccess(300, 500);
+        assertThat(governor.nextBatchSize()).isEqualTo(150);
+
+        governor.onSuccess(150, 50);
+        assertThat(governor.nextBatchSize()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldBackOffWhenDatabaseIsBusy() {
+        when(databaseLoadMapper.sampleLoad()).thenReturn(new DatabaseLoad(50, 0, 0));
+        CleanupGovernorImpl governor = governor();
+
+        long pause = governor.onSuccess(100, 50);
+
+        assertThat(pause).isEqualTo(2000);
+        assertThat(governor.nextBatchSize()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldPaceOnLatencyWhenLoadCannotBeSampled() {
+        when(databaseLoadMapper.sampleLoad()).thenThrow(new RuntimeException("permission denied"));
+        CleanupGovernorImpl governor = governor();
+
+        long pause = governor.onSuccess(100, 50);
+
+        assertThat(pause).isEqualTo(20);
+        assertThat(governor.nextBatchSize()).isEqualTo(200);
+    }
+}
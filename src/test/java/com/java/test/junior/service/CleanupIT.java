@@ -1,11 +1,22 @@
 package com.java.test.junior.service;
 
 import com.java.test.junior.BaseIT;
+import com.java.test.junior.model.DeleteStrategy;
+import com.java.test.junior.model.InteractionCountsDTO;
+import com.java.test.junior.service.database.DatabaseDeleteService;
 import com.java.test.junior.service.database.DatabaseScheduleService;
+import com.java.test.junior.service.interaction.InteractionService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.sql.Timestamp;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -17,6 +28,12 @@ public class CleanupIT extends BaseIT {
     @Autowired
     private DatabaseScheduleService scheduleService;
 
+    @Autowired
+    private InteractionService interactionService;
+
+    @Autowired
+    private DatabaseDeleteService deleteService;
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
@@ -24,15 +41,56 @@ public class CleanupIT extends BaseIT {
     private static final String ALICE_PASS = "alice123";
     private static final String PRODUCTS_LIKE = "/products/1/like";
     private static final String SOFT_DELETE_COUNT = "SELECT count(*) FROM product_interactions WHERE is_deleted = true";
+    private static final String DELETE_ATTEMPTS = "SELECT delete_attempts FROM product_interactions WHERE product_id = 1 AND user_id = (SELECT id FROM users WHERE username = 'alice')";
+    private static final String ALICE_ROW_COUNT = "SELECT count(*) FROM product_interactions WHERE product_id = 1 AND user_id = (SELECT id FROM users WHERE username = 'alice')";
+    private static final String LAST_DELETE_ERROR = "SELECT last_delete_error FROM product_interactions WHERE product_id = 1 AND user_id = (SELECT id FROM users WHERE username = 'alice')";
+    private static final String LOCKED_ROW = "product_id = (SELECT MAX(id) FROM product) AND user_id = (SELECT id FROM users WHERE username = 'alice')";
+    private static final String SEED_LOCKED_ROW = """
+            INSERT INTO product_interactions (user_id, product_id, is_like, is_deleted, deleted_at)
+            SELECT (SELECT id FROM users WHERE username = 'alice'), (SELECT MAX(id) FROM product), true, true, CURRENT_TIMESTAMP
+            ON CONFLICT (user_id, product_id) DO UPDATE SET is_deleted = true, delete_attempts = 0
+            """;
+    private static final String SEED_LEGACY_ROW = """
+            INSERT INTO product_interactions (user_id, product_id, is_like, is_deleted, deleted_at)
+            SELECT (SELECT id FROM users WHERE username = 'alice'), (SELECT MAX(id) FROM product), true, true, NULL
+            ON CONFLICT (user_id, product_id) DO UPDATE SET is_deleted = true, deleted_at = NULL, delete_attempts = 0
+            """;
+    private static final String LEGACY_ROW_COUNT = "SELECT count(*) FROM product_interactions WHERE " + LOCKED_ROW;
+    private static final String LOCK_ROW = "SELECT 1 FROM product_interactions WHERE " + LOCKED_ROW + " FOR UPDATE";
+    private static final String LOCKED_ROW_ATTEMPTS = "SELECT delete_attempts FROM product_interactions WHERE " + LOCKED_ROW;
+    private static final String CREATE_FAILING_TRIGGER = """
+            CREATE OR REPLACE FUNCTION reject_interaction_delete() RETURNS trigger AS $$
+            BEGIN
+                RAISE EXCEPTION 'delete rejected';
+            END;
+            $$ LANGUAGE plpgsql;
+            CREATE TRIGGER reject_interaction_delete BEFORE DELETE ON product_interactions
+                FOR EACH ROW EXECUTE FUNCTION reject_interaction_delete();
+            """;
+    private static final String CREATE_SINGLE_STATEMENT_TRIGGER = """
+            CREATE OR REPLACE FUNCTION reject_single_statement_delete() RETURNS trigger AS $$
+            BEGIN
+                IF current_query() ILIKE '%ctid%' THEN
+                    RAISE EXCEPTION 'single statement rejected';
+                END IF;
+                RETURN NULL;
+            END;
+            $$ LANGUAGE plpgsql;
+            CREATE TRIGGER reject_single_statement_delete BEFORE DELETE ON product_interactions
+                FOR EACH STATEMENT EXECUTE FUNCTION reject_single_statement_delete();
+            """;
+    private static final String DROP_SINGLE_STATEMENT_TRIGGER = "DROP TRIGGER IF EXISTS reject_single_statement_delete ON product_interactions";
+    private static final String DROP_FAILING_TRIGGER = "DROP TRIGGER IF EXISTS reject_interaction_delete ON product_interactions";
+    private static final String DELETED_AT = "SELECT deleted_at FROM product_interactions WHERE product_id = 1 AND user_id = (SELECT id FROM users WHERE username = 'alice')";
 
 
     @Test
     void testFullSoftDeleteToHardDeleteLifecycle() {
         restTemplate.withBasicAuth(ALICE, ALICE_PASS)
-                .postForEntity(PRODUCTS_LIKE, null, Integer.class);
+                .postForEntity(PRODUCTS_LIKE, null, InteractionCountsDTO.class);
 
         restTemplate.withBasicAuth(ALICE, ALICE_PASS)
-                .postForEntity(PRODUCTS_LIKE, null, Integer.class);
+                .postForEntity(PRODUCTS_LIKE, null, InteractionCountsDTO.class);
 
         Integer softDeletedCount = jdbcTemplate.queryForObject(SOFT_DELETE_COUNT, Integer.class);
         assertThat(softDeletedCount).isGreaterThan(0);
@@ -42,4 +100,109 @@ public class CleanupIT extends BaseIT {
         Integer finalCount = jdbcTemplate.queryForObject(SOFT_DELETE_COUNT, Integer.class);
         assertThat(finalCount).isEqualTo(0);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testRetentionHorizonKeepsRecentlyDeletedRows() {
+        Object target = AopTestUtils.getTargetObject(interactionService);
+
+        restTemplate.withBasicAuth(ALICE, ALICE_PASS)
+                .postForEntity(PRODUCTS_LIKE, null, InteractionCountsDTO.class);
+        restTemplate.withBasicAuth(ALICE, ALICE_PASS)
+                .postForEntity(PRODUCTS_LIKE, null, InteractionCountsDTO.class);
+
+        assertThat(jdbcTemplate.queryForObject(DELETED_AT, Timestamp.class)).isNotNull();
+
+        ReflectionTestUtils.setField(target, "retentionSeconds", 3600L);
+        try {
+            scheduleService.hardDeleteOldInteractions();
+            assertThat(jdbcTemplate.queryForObject(SOFT_DELETE_COUNT, Integer.class)).isGreaterThan(0);
+
+            restTemplate.withBasicAuth(ALICE, ALICE_PASS)
+                    .postForEntity(PRODUCTS_LIKE, null, InteractionCountsDTO.class);
+            assertThat(jdbcTemplate.queryForObject(DELETED_AT, Timestamp.class)).isNull();
+
+            restTemplate.withBasicAuth(ALICE, ALICE_PASS)
+                    .postForEntity(PRODUCTS_LIKE, null, InteractionCountsDTO.class);
+        } finally {
+            ReflectionTestUtils.setField(target, "retentionSeconds", 0L);
+        }
+
+        scheduleService.hardDeleteOldInteractions();
+        assertThat(jdbcTemplate.queryForObject(SOFT_DELETE_COUNT, Integer.class)).isEqualTo(0);
+    }
+
+    @Test
+    void testRowsSoftDeletedBeforeDeletedAtExistedArePastTheHorizon() {
+        Object target = AopTestUtils.getTargetObject(interactionService);
+        jdbcTemplate.update(SEED_LEGACY_ROW);
+
+        ReflectionTestUtils.setField(target, "retentionSeconds", 3600L);
+        try {
+            scheduleService.hardDeleteOldInteractions();
+        } finally {
+            ReflectionTestUtils.setField(target, "retentionSeconds", 0L);
+        }
+
+        assertThat(jdbcTemplate.queryForObject(LEGACY_ROW_COUNT, Integer.class)).isEqualTo(0);
+    }
+
+    @Test
+    void testSingleStatementDeleteChargesOnlyRowsItFailedToDelete() throws Exception {
+        Object target = AopTestUtils.getTargetObject(deleteService);
+        ReflectionTestUtils.setField(target, "deleteStrategy", DeleteStrategy.SINGLE_STATEMENT);
+        try {
+            restTemplate.withBasicAuth(ALICE, ALICE_PASS)
+                    .postForEntity(PRODUCTS_LIKE, null, InteractionCountsDTO.class);
+            restTemplate.withBasicAuth(ALICE, ALICE_PASS)
+                    .postForEntity(PRODUCTS_LIKE, null, InteractionCountsDTO.class);
+
+            jdbcTemplate.update(SEED_LOCKED_ROW);
+
+            jdbcTemplate.execute(CREATE_FAILING_TRIGGER);
+            try (Connection locker = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())) {
+                locker.setAutoCommit(false);
+                try (Statement statement = locker.createStatement()) {
+                    statement.execute(LOCK_ROW);
+                }
+                scheduleService.hardDeleteOldInteractions();
+                locker.rollback();
+            } finally {
+                jdbcTemplate.execute(DROP_FAILING_TRIGGER);
+            }
+            assertThat(jdbcTemplate.queryForObject(DELETE_ATTEMPTS, Integer.class)).isEqualTo(3);
+            assertThat(jdbcTemplate.queryForObject(LOCKED_ROW_ATTEMPTS, Integer.class)).isZero();
+            assertThat(jdbcTemplate.queryForObject(LAST_DELETE_ERROR, String.class)).contains("delete rejected");
+
+            jdbcTemplate.update("UPDATE product_interactions SET delete_attempts = 0");
+            scheduleService.hardDeleteOldInteractions();
+            assertThat(jdbcTemplate.queryForObject(SOFT_DELETE_COUNT, Integer.class)).isEqualTo(0);
+        } finally {
+            ReflectionTestUtils.setField(target, "deleteStrategy", DeleteStrategy.KEYED);
+        }
+    }
+
+    @Test
+    void testSingleStatementFailureRetriedByKeyCountsDeletedRows() {
+        Object target = AopTestUtils.getTargetObject(deleteService);
+        ReflectionTestUtils.setField(target, "deleteStrategy", DeleteStrategy.SINGLE_STATEMENT);
+        try {
+            restTemplate.withBasicAuth(ALICE, ALICE_PASS)
+                    .postForEntity(PRODUCTS_LIKE, null, InteractionCountsDTO.class);
+            restTemplate.withBasicAuth(ALICE, ALICE_PASS)
+                    .postForEntity(PRODUCTS_LIKE, null, InteractionCountsDTO.class);
+
+            jdbcTemplate.execute(CREATE_SINGLE_STATEMENT_TRIGGER);
+            int deleted;
+            try {
+                deleted = scheduleService.hardDeleteOldInteractions();
+            } finally {
+                jdbcTemplate.execute(DROP_SINGLE_STATEMENT_TRIGGER);
+            }
+
+            assertThat(deleted).isPositive();
+            assertThat(jdbcTemplate.queryForObject(ALICE_ROW_COUNT, Integer.class)).isEqualTo(0);
+        } finally {
+            ReflectionTestUtils.setField(target, "deleteStrategy", DeleteStrategy.KEYED);
+        }
+    }
+}
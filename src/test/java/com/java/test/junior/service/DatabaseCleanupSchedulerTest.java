@@ -0,0 +1,44 @@
+package com.java.test.junior.service;
+
+import com.java.test.junior.model.CleanupMode;
+import com.java.test.junior.service.database.CleanupCoordinator;
+import com.java.test.junior.service.database.DatabaseCleanupSchedulerImpl;
+import com.java.test.junior.service.database.TrickleCleanupService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseCleanupSchedulerTest {
+
+    @Mock
+    private CleanupCoordinator cleanupCoordinator;
+
+    @Mock
+    private TrickleCleanupService trickleCleanupService;
+
+    @InjectMocks
+    private DatabaseCleanupSchedulerImpl scheduler;
+
+    @Test
+    void shouldSkipCronRunWhileTrickling() {
+        when(trickleCleanupService.getMode()).thenReturn(CleanupMode.TRICKLE);
+
+        scheduler.scheduledHardDelete();
+
+        verify(cleanupCoordinator, never()).runCoordinated();
+    }
+
+    @Test
+    void shouldRunCoordinatedCleanupInCronMode() {
+        when(trickleCleanupService.getMode()).thenReturn(CleanupMode.CRON);
+
+        scheduler.scheduledHardDelete();
+
+        verify(cleanupCoordinator, times(1)).runCoordinated();
+    }
+}
@@ -1,5 +1,6 @@
 package com.java.test.junior.service;
 
+import com.java.test.junior.service.database.CleanupGovernor;
 import com.java.test.junior.service.database.DatabaseDeleteService;
 import com.java.test.junior.service.database.DatabaseScheduleServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +12,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -19,6 +22,9 @@ class DatabaseScheduleServiceTest {
     @Mock
     private DatabaseDeleteService deleteService;
 
+    @Mock
+    private CleanupGovernor cleanupGovernor;
+
     @InjectMocks
     private DatabaseScheduleServiceImpl scheduleService;
 
@@ -110,4 +116,35 @@ class DatabaseScheduleServiceTest {
 
         verify(deleteService, times(7)).performManagedBatch(10);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldRunOneLoopPerPartitionWhenWorkersConfigured() {
+        ReflectionTestUtils.setField(scheduleService, "workers", 2);
+        ReflectionTestUtils.setField(scheduleService, "partitioned", true);
+        when(deleteService.performManagedBatch(10, 0, 2))
+                .thenReturn(10)
+                .thenReturn(0);
+        when(deleteService.performManagedBatch(10, 1, 2)).thenReturn(0);
+
+        scheduleService.hardDeleteOldInteractions();
+
+        verify(deleteService, times(2)).performManagedBatch(10, 0, 2);
+        verify(deleteService, times(1)).performManagedBatch(10, 1, 2);
+        verify(deleteService, never()).performManagedBatch(10);
+    }
+
+    @Test
+    void shouldUseGovernorBatchSizeAndPauseWhenEnabled() {
+        when(cleanupGovernor.isEnabled()).thenReturn(true);
+        when(cleanupGovernor.nextBatchSize()).thenReturn(200);
+        when(cleanupGovernor.onSuccess(anyInt(), anyLong())).thenReturn(0L);
+        when(deleteService.performManagedBatch(200))
+                .thenReturn(200)
+                .thenReturn(0);
+
+        scheduleService.hardDeleteOldInteractions();
+
+        verify(deleteService, times(2)).performManagedBatch(200);
+        verify(cleanupGovernor).onSuccess(eq(200), anyLong());
+    }
+}
@@ -0,0 +1,84 @@
+package com.java.test.junior.service;
+
+import com.java.test.junior.BaseIT;
+import com.java.test.junior.model.InteractionCountsDTO;
+import com.java.test.junior.model.PendingInteraction;
+import com.java.test.junior.service.interaction.InteractionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InteractionCountsIT extends BaseIT {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private InteractionService interactionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final String JOHNY = "johny";
+    private static final String JOHNY_PASS = "johny123";
+    private static final String PRODUCTS_DISLIKE = "/products/1/dislike";
+    private static final String COUNTED_DISLIKES = "SELECT COALESCE(SUM(dislike_count), 0) FROM product_interaction_counts WHERE product_id = 1";
+    private static final String ACTIVE_DISLIKES = "SELECT count(*) FROM product_interactions WHERE product_id = 1 AND is_like = false AND is_deleted = false";
+    private static final String ADMIN_ID = "SELECT id FROM users WHERE username = 'admin'";
+    private static final String LAST_PRODUCT_ID = "SELECT MAX(id) FROM product";
+    private static final String IS_DELETED = "SELECT is_deleted FROM product_interactions WHERE user_id = ? AND product_id = ?";
+    private static final String COUNTED = "SELECT COALESCE(SUM(like_count), 0) || '/' || COALESCE(SUM(dislike_count), 0) FROM product_interaction_counts WHERE product_id = ?";
+    private static final String ACTIVE = """
+            SELECT count(*) FILTER (WHERE is_like) || '/' || count(*) FILTER (WHERE NOT is_like)
+            FROM product_interactions WHERE product_id = ? AND is_deleted = false
+            """;
+    private static final String CORRUPT_COUNTER = "UPDATE product_interaction_counts SET dislike_count = dislike_count + 5 WHERE product_id = 1";
+
+    @Test
+    void reconcileCounts_repairsDriftedCounters() {
+        restTemplate.withBasicAuth(JOHNY, JOHNY_PASS)
+                .postForEntity(PRODUCTS_DISLIKE, null, InteractionCountsDTO.class);
+        jdbcTemplate.update(CORRUPT_COUNTER);
+
+        int repaired = interactionService.reconcileCounts();
+
+        assertThat(repaired).isGreaterThanOrEqualTo(1);
+        Long counted = jdbcTemplate.queryForObject(COUNTED_DISLIKES, Long.class);
+        Long active = jdbcTemplate.queryForObject(ACTIVE_DISLIKES, Long.class);
+        assertThat(counted).isEqualTo(active);
+    }
+
+    @Test
+    void repeatedToggle_overOppositeStoredChoice_endsDeleted() {
+        Long userId = jdbcTemplate.queryForObject(ADMIN_ID, Long.class);
+        Long productId = jdbcTemplate.queryForObject(LAST_PRODUCT_ID, Long.class);
+        interactionService.applyInteractions(List.of(new PendingInteraction(userId, productId, false, false, false, false, 0)));
+
+        interactionService.applyInteractions(List.of(new PendingInteraction(userId, productId, true, false, true, true, 0)));
+
+        assertThat(jdbcTemplate.queryForObject(IS_DELETED, Boolean.class, userId, productId)).isTrue();
+        assertThat(jdbcTemplate.queryForObject(COUNTED, String.class, productId))
+                .isEqualTo(jdbcTemplate.queryForObject(ACTIVE, String.class, productId));
+    }
+
+    @Test
+    void reconcileCounts_overlappingRunsApplyCorrectionOnce() {
+        jdbcTemplate.update(CORRUPT_COUNTER);
+
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(interactionService::reconcileCounts);
+        CompletableFuture<Integer> second = CompletableFuture.supplyAsync(interactionService::reconcileCounts);
+        first.join();
+        second.join();
+        interactionService.reconcileCounts();
+
+        Long counted = jdbcTemplate.queryForObject(COUNTED_DISLIKES, Long.class);
+        Long active = jdbcTemplate.queryForObject(ACTIVE_DISLIKES, Long.class);
+        assertThat(counted).isEqualTo(active);
+    }
+}
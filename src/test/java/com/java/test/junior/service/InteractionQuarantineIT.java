@@ -0,0 +1,74 @@
+package com.java.test.junior.service;
+
+import com.java.test.junior.BaseIT;
+import com.java.test.junior.model.QuarantineStatsDTO;
+import com.java.test.junior.service.database.InteractionQuarantineService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InteractionQuarantineIT extends BaseIT {
+
+    @Autowired
+    private InteractionQuarantineService quarantineService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final String STUCK_ROW = "user_id = (SELECT id FROM users WHERE username = 'admin') AND product_id = (SELECT MIN(id) FROM product)";
+    private static final String SEED_STUCK_ROW = """
+            INSERT INTO product_interactions (user_id, product_id, is_like, is_deleted, deleted_at, delete_attempts, last_delete_error)
+            SELECT (SELECT id FROM users WHERE username = 'admin'), (SELECT MIN(id) FROM product), true, true, CURRENT_TIMESTAMP, 3, 'lock timeout'
+            ON CONFLICT (user_id, product_id) DO NOTHING
+            """;
+    private static final String CREATE_FAILING_TRIGGER = """
+            CREATE OR REPLACE FUNCTION reject_quarantined_delete() RETURNS trigger AS $$
+            BEGIN
+                RAISE EXCEPTION 'delete rejected';
+            END;
+            $$ LANGUAGE plpgsql;
+            CREATE TRIGGER reject_quarantined_delete BEFORE DELETE ON product_interactions
+                FOR EACH ROW EXECUTE FUNCTION reject_quarantined_delete();
+            """;
+    private static final String DROP_FAILING_TRIGGER = "DROP TRIGGER IF EXISTS reject_quarantined_delete ON product_interactions";
+    private static final String RETRY_ATTEMPTS = "SELECT retry_attempts FROM product_interaction_quarantine WHERE " + STUCK_ROW;
+    private static final String REASON = "SELECT reason FROM product_interaction_quarantine WHERE " + STUCK_ROW;
+    private static final String MAKE_DUE = "UPDATE product_interaction_quarantine SET next_retry_at = CURRENT_TIMESTAMP WHERE " + STUCK_ROW;
+    private static final String ROW_COUNT = "SELECT count(*) FROM product_interactions WHERE " + STUCK_ROW;
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.execute(DROP_FAILING_TRIGGER);
+        ReflectionTestUtils.setField(quarantineService, "initialDelaySeconds", 3600L);
+    }
+
+    @Test
+    void stuckRowIsQuarantinedRetriedWithBackoffAndReleased() {
+        jdbcTemplate.update(SEED_STUCK_ROW);
+        ReflectionTestUtils.setField(quarantineService, "initialDelaySeconds", 0L);
+
+        assertThat(quarantineService.quarantineStuckRows()).isGreaterThanOrEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(REASON, String.class)).isEqualTo("lock timeout");
+
+        jdbcTemplate.execute(CREATE_FAILING_TRIGGER);
+        assertThat(quarantineService.retryDue()).isEqualTo(0);
+        assertThat(jdbcTemplate.queryForObject(RETRY_ATTEMPTS, Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(REASON, String.class)).contains("delete rejected");
+
+        QuarantineStatsDTO stats = quarantineService.getStats();
+        assertThat(stats.getQuarantined()).isGreaterThanOrEqualTo(1);
+        assertThat(stats.getMaxRetryAttempts()).isGreaterThanOrEqualTo(1);
+
+        assertThat(quarantineService.retryDue()).isEqualTo(0);
+        assertThat(jdbcTemplate.queryForObject(RETRY_ATTEMPTS, Integer.class)).isEqualTo(1);
+
+        jdbcTemplate.execute(DROP_FAILING_TRIGGER);
+        jdbcTemplate.update(MAKE_DUE);
+        assertThat(quarantineService.retryDue()).isGreaterThanOrEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(ROW_COUNT, Integer.class)).isEqualTo(0);
+    }
+}
@@ -0,0 +1,179 @@
+package com.java.test.junior.service;
+
+import com.java.test.junior.exception.InteractionBufferFullException;
+import com.java.test.junior.model.InteractionState;
+import com.java.test.junior.model.PendingInteraction;
+import com.java.test.junior.service.interaction.InteractionService;
+import com.java.test.junior.service.interaction.InteractionWriteBufferImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InteractionWriteBufferTest {
+
+    @Mock
+    private InteractionService interactionService;
+
+    private InteractionWriteBufferImpl buffer(int capacity) {
+        return new InteractionWriteBufferImpl(interactionService, true, 1000, 100, capacity);
+    }
+
+    @Test
+    void repeatedSameToggleIsResolvedAgainstStoredRow() {
+        InteractionWriteBufferImpl buffer = buffer(10);
+
+        assertThat(buffer.record(1L, 1L, true)).isEqualTo(InteractionState.PENDING);
+        assertThat(buffer.record(1L, 1L, true)).isEqualTo(InteractionState.PENDING);
+
+        buffer.flushAll();
+
+        PendingInteraction written = singleWritten();
+        assertThat(written.isToggle()).isTrue();
+        assertThat(written.isRepeated()).isTrue();
+        assertThat(written.isLike()).isTrue();
+    }
+
+    @Test
+    void thirdSameToggleIsPlainToggle() {
+        InteractionWriteBufferImpl buffer = buffer(10);
+
+        buffer.record(1L, 1L, true);
+        buffer.record(1L, 1L, true);
+        buffer.record(1L, 1L, true);
+        buffer.flushAll();
+
+        PendingInteraction written = singleWritten();
+        assertThat(written.isToggle()).isTrue();
+        assertThat(written.isRepeated()).isFalse();
+    }
+
+    @Test
+    void otherChoiceAfterRepeatedToggleEndsInThatChoice() {
+        InteractionWriteBufferImpl buffer = buffer(10);
+
+        buffer.record(1L, 1L, true);
+        buffer.record(1L, 1L, true);
+        assertThat(buffer.record(1L, 1L, false)).isEqualTo(InteractionState.DISLIKED);
+    }
+
+    @Test
+    void differentTogglesCoalesceIntoKnownState() {
+        InteractionWriteBufferImpl buffer = buffer(10);
+
+        assertThat(buffer.record(1L, 1L, true)).isEqualTo(InteractionState.PENDING);
+        assertThat(buffer.record(1L, 1L, false)).isEqualTo(InteractionState.DISLIKED);
+        assertThat(buffer.record(1L, 1L, false)).isEqualTo(InteractionState.NONE);
+
+        buffer.flushAll();
+
+        PendingInteraction written = singleWritten();
+        assertThat(written.isToggle()).isFalse();
+        assertThat(written.isDeleted()).isTrue();
+    }
+
+    @Test
+    void failedFlushKeepsInteractionsPending() {
+        InteractionWriteBufferImpl buffer = buffer(10);
+        doThrow(new RuntimeException("DB Connection Failed")).when(interactionService).applyInteractions(anyList());
+
+        buffer.record(1L, 1L, true);
+        buffer.record(2L, 1L, true);
+        buffer.flushAll();
+
+        assertThat(buffer.getPendingCount()).isEqualTo(2);
+    }
+
+    @Test
+    void fullBufferFlushesInCallerThread() {
+        InteractionWriteBufferImpl buffer = buffer(1);
+
+        buffer.record(1L, 1L, true);
+        buffer.record(2L, 1L, true);
+
+        verify(interactionService, times(1)).applyInteractions(anyList());
+        assertThat(buffer.getPendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void fullBufferRejectsWhenFlushFails() {
+        InteractionWriteBufferImpl buffer = buffer(1);
+        doThrow(new RuntimeException("DB Connection Failed")).when(interactionService).applyInteractions(anyList());
+
+        buffer.record(1L, 1L, true);
+
+        assertThatThrownBy(() -> buffer.record(2L, 1L, true))
+                .isInstanceOf(InteractionBufferFullException.class);
+    }
+
+    @Test
+    void constraintFailureDropsOnlyOffendingInteraction() {
+        InteractionWriteBufferImpl buffer = buffer(10);
+        doAnswer(invocation -> {
+            List<PendingInteraction> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(op -> op.getUserId() == 2L)) {
+                throw new DataIntegrityViolationException("fk_user");
+            }
+            return null;
+        }).when(interactionService).applyInteractions(anyList());
+
+        buffer.record(1L, 1L, true);
+        buffer.record(2L, 1L, true);
+        buffer.record(3L, 1L, true);
+        buffer.flushAll();
+
+        assertThat(buffer.getPendingCount()).isZero();
+        buffer.record(4L, 1L, true);
+        assertThat(buffer.getPendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentCallersCannotExceedCapacity() throws Exception {
+        InteractionWriteBufferImpl buffer = buffer(5);
+        doThrow(new RuntimeException("DB Connection Failed")).when(interactionService).applyInteractions(anyList());
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> calls = new ArrayList<>();
+            for (long user = 1; user <= 50; user++) {
+                long userId = user;
+                calls.add(pool.submit(() -> {
+                    try {
+                        buffer.record(userId, 1L, true);
+                    } catch (InteractionBufferFullException ignored) {
+                    }
+                }));
+            }
+            for (Future<?> call : calls) {
+                call.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(buffer.getPendingCount()).isEqualTo(5);
+    }
+
+    @SuppressWarnings("unchecked")
+    private PendingInteraction singleWritten() {
+        ArgumentCaptor<List<PendingInteraction>> batch = ArgumentCaptor.forClass(List.class);
+        verify(interactionService).applyInteractions(batch.capture());
+        assertThat(batch.getValue()).hasSize(1);
+
+        return batch.getValue().get(0);
+    }
+}
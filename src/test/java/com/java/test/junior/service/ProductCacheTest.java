@@ -0,0 +1,94 @@
+package com.java.test.junior.service;
+
+import com.java.test.junior.mapper.ProductMapper;
+import com.java.test.junior.model.Product;
+import com.java.test.junior.service.product.ProductCacheImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCacheTest {
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Test
+    void shouldServeRepeatedReadsFromCache() {
+        when(productMapper.findById(1L)).thenReturn(product(1L, "Gadget"));
+        ProductCacheImpl cache = new ProductCacheImpl(productMapper, 10, 60000);
+
+        cache.findById(1L);
+        Product product = cache.findById(1L);
+
+        assertThat(product.getName()).isEqualTo("Gadget");
+        verify(productMapper, times(1)).findById(1L);
+        assertThat(cache.getStats().getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReloadAfterTtlExpires() throws InterruptedException {
+        when(productMapper.findById(1L)).thenReturn(product(1L, "Gadget"), product(1L, "Gadget v2"));
+        ProductCacheImpl cache = new ProductCacheImpl(productMapper, 10, 20);
+
+        cache.findById(1L);
+        Thread.sleep(40);
+
+        assertThat(cache.findById(1L).getName()).isEqualTo("Gadget v2");
+        verify(productMapper, times(2)).findById(1L);
+    }
+
+    @Test
+    void shouldReloadAfterInvalidation() {
+        when(productMapper.findById(1L)).thenReturn(product(1L, "Gadget"), product(1L, "Gadget v2"));
+        ProductCacheImpl cache = new ProductCacheImpl(productMapper, 10, 60000);
+
+        cache.findById(1L);
+        cache.invalidate(1L);
+
+        assertThat(cache.findById(1L).getName()).isEqualTo("Gadget v2");
+    }
+
+    @Test
+    void shouldNotServeDeletedProductAfterInvalidation() {
+        when(productMapper.findById(1L)).thenReturn(product(1L, "Gadget"), (Product) null);
+        ProductCacheImpl cache = new ProductCacheImpl(productMapper, 10, 60000);
+
+        cache.findById(1L);
+        cache.invalidate(1L);
+
+        assertThat(cache.findById(1L)).isNull();
+    }
+
+    @Test
+    void shouldLoadOnlyMissingIdsInOneQuery() {
+        when(productMapper.findById(1L)).thenReturn(product(1L, "Gadget"));
+        when(productMapper.findByIds(any())).thenReturn(List.of(product(2L, "Widget")));
+        ProductCacheImpl cache = new ProductCacheImpl(productMapper, 10, 60000);
+        cache.findById(1L);
+
+        Map<Long, Product> products = cache.findByIds(List.of(1L, 2L, 3L));
+
+        assertThat(products).containsOnlyKeys(1L, 2L);
+        verify(productMapper).findById(1L);
+        verify(productMapper).findByIds(new Long[]{2L, 3L});
+        assertThat(cache.findByIds(List.of(2L))).containsOnlyKeys(2L);
+        verifyNoMoreInteractions(productMapper);
+    }
+
+    private static Product product(Long id, String name) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName(name);
+
+        return product;
+    }
+}
@@ -0,0 +1,80 @@
+package com.java.test.junior.service;
+
+import com.java.test.junior.model.CleanupMode;
+import com.java.test.junior.service.database.DatabaseDeleteService;
+import com.java.test.junior.service.database.TrickleCleanupServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TrickleCleanupServiceTest {
+
+    @Mock
+    private DatabaseDeleteService deleteService;
+
+    @Test
+    void shouldRejectNonPositiveRate() {
+        assertThatThrownBy(() -> new TrickleCleanupServiceImpl(deleteService, CleanupMode.CRON, 10, 0, 1000))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldStayUnderMaxRowsPerSecond() throws InterruptedException {
+        when(deleteService.performManagedBatch(anyInt())).thenReturn(10);
+        TrickleCleanupServiceImpl trickle = new TrickleCleanupServiceImpl(deleteService, CleanupMode.CRON, 10, 100, 1000);
+
+        trickle.switchMode(CleanupMode.TRICKLE);
+        Thread.sleep(550);
+        trickle.switchMode(CleanupMode.CRON);
+        trickle.shutdown();
+
+        assertThat(trickle.getStatus().getTrickleDeleted()).isBetween(10L, 70L);
+    }
+
+    @Test
+    void shouldNotOverlapLoopsOnQuickModeSwitches() throws InterruptedException {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        when(deleteService.performManagedBatch(anyInt())).thenAnswer(invocation -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            sleepIgnoringInterrupts(200);
+            active.decrementAndGet();
+            return 0;
+        });
+        TrickleCleanupServiceImpl trickle = new TrickleCleanupServiceImpl(deleteService, CleanupMode.CRON, 10, 100, 50);
+
+        trickle.switchMode(CleanupMode.TRICKLE);
+        Thread.sleep(50);
+        trickle.switchMode(CleanupMode.CRON);
+        trickle.switchMode(CleanupMode.TRICKLE);
+        Thread.sleep(600);
+        trickle.shutdown();
+
+        assertThat(maxActive.get()).isEqualTo(1);
+        assertThat(trickle.getMode()).isEqualTo(CleanupMode.TRICKLE);
+    }
+
+    private static void sleepIgnoringInterrupts(long millis) {
+        long until = System.currentTimeMillis() + millis;
+        boolean interrupted = false;
+        while (System.currentTimeMillis() < until) {
+            try {
+                Thread.sleep(Math.max(1, until - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.java.test.junior.util;
+
+import com.java.test.junior.model.ProductScore;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedTopKTest {
+
+    @Test
+    void shouldKeepHighestScoresWhenFull() {
+        BoundedTopK topK = new BoundedTopK(2);
+
+        topK.offer(1L, 5);
+        topK.offer(2L, 3);
+        topK.offer(3L, 4);
+        topK.offer(4L, 1);
+
+        assertThat(topK.top(10)).extracting(ProductScore::getProductId).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void shouldReplaceScoreAndDropZero() {
+        BoundedTopK topK = new BoundedTopK(3);
+        topK.offer(1L, 5);
+        topK.offer(2L, 3);
+
+        topK.offer(2L, 7);
+        topK.offer(1L, 0);
+
+        assertThat(topK.top(10)).containsExactly(new ProductScore(2L, 7));
+    }
+}
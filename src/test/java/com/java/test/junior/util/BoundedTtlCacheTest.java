@@ -0,0 +1,68 @@
+package com.java.test.junior.util;
+
+import com.java.test.junior.model.CacheStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedTtlCacheTest {
+
+    @Test
+    void shouldLoadOnceAndServeHitsAfterwards() {
+        BoundedTtlCache<Long, String> cache = new BoundedTtlCache<>("test", 10, 60000);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, id -> "value-" + loads.incrementAndGet());
+        String value = cache.get(1L, id -> "value-" + loads.incrementAndGet());
+
+        assertThat(value).isEqualTo("value-1");
+        assertThat(loads.get()).isEqualTo(1);
+        CacheStats stats = cache.stats();
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntryWhenFull() {
+        BoundedTtlCache<Long, String> cache = new BoundedTtlCache<>("test", 2, 60000);
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+        cache.getIfPresent(1L);
+
+        cache.put(3L, "three");
+
+        assertThat(cache.getIfPresent(2L)).isNull();
+        assertThat(cache.getIfPresent(1L)).isEqualTo("one");
+        assertThat(cache.stats().getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldExpireEntriesAfterTtl() throws InterruptedException {
+        BoundedTtlCache<Long, String> cache = new BoundedTtlCache<>("test", 10, 20);
+        cache.put(1L, "one");
+
+        Thread.sleep(40);
+
+        assertThat(cache.getIfPresent(1L)).isNull();
+    }
+
+    @Test
+    void shouldNotCacheNullValues() {
+        BoundedTtlCache<Long, String> cache = new BoundedTtlCache<>("test", 10, 60000);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.stats().getSize()).isZero();
+    }
+}
@@ -0,0 +1,26 @@
+package com.java.test.junior.util;
+
+import com.java.test.junior.model.ProductScore;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowCounterTest {
+
+    @Test
+    void shouldRankWithinWindowAndForgetExpiredBuckets() {
+        AtomicLong now = new AtomicLong(0);
+        SlidingWindowCounter counter = new SlidingWindowCounter(1000, 3, now::get);
+
+        counter.add(1L, 5);
+        now.set(1000);
+        counter.add(2L, 2);
+        counter.add(2L, 2);
+        assertThat(counter.top(10)).containsExactly(new ProductScore(1L, 5), new ProductScore(2L, 4));
+
+        now.set(3000);
+        assertThat(counter.top(10)).containsExactly(new ProductScore(2L, 4));
+    }
+}